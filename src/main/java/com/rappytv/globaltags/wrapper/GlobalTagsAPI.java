@@ -3,23 +3,46 @@ package com.rappytv.globaltags.wrapper;
 import com.rappytv.globaltags.wrapper.enums.AuthProvider;
 import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
 import com.rappytv.globaltags.wrapper.http.ApiHandler;
+import com.rappytv.globaltags.wrapper.http.IconCache;
+import com.rappytv.globaltags.wrapper.http.IconPreprocessor;
 import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import com.rappytv.globaltags.wrapper.util.CircuitBreaker;
+import com.rappytv.globaltags.wrapper.util.RateLimiter;
+import com.rappytv.globaltags.wrapper.util.RetryBudget;
+import com.rappytv.globaltags.wrapper.util.TranslationCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A util class for the GlobalTags API
  *
  * @param <T> The result type of the {@link #translateColorCodes(String)} method
  */
-public abstract class GlobalTagsAPI<T> {
+public abstract class GlobalTagsAPI<T> implements AutoCloseable {
 
     /*+
      * Default urls
      */
     private final Urls urls = new Urls();
+    /**
+     * Default http options
+     */
+    private final HttpOptions httpOptions = new HttpOptions() {};
     /**
      * Default cache options
      */
@@ -28,6 +51,46 @@ public abstract class GlobalTagsAPI<T> {
      * Default API handler
      */
     private final ApiHandler<T> apiHandler = new ApiHandler<>(this);
+    /**
+     * Default icon cache
+     */
+    private final IconCache iconCache = new IconCache(this);
+    /**
+     * Default icon preprocessor
+     */
+    private final IconPreprocessor iconPreprocessor = new IconPreprocessor();
+    /**
+     * Background scheduler, created on first use
+     */
+    private volatile ScheduledExecutorService scheduler;
+    /**
+     * Worker executor for blocking work, created on first use
+     */
+    private volatile ExecutorService workerExecutor;
+    /**
+     * Http client, created on first use
+     */
+    private volatile HttpClient httpClient;
+    /**
+     * Request rate limiter, created on first use
+     */
+    private volatile RateLimiter rateLimiter;
+    /**
+     * Retry budget, created on first use
+     */
+    private volatile RetryBudget retryBudget;
+    /**
+     * Circuit breakers by API base
+     */
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    /**
+     * Listeners which are notified about circuit breaker state transitions
+     */
+    private final List<CircuitBreaker.Listener> circuitBreakerListeners = new CopyOnWriteArrayList<>();
+    /**
+     * Translated tag cache, created on first use
+     */
+    private volatile TranslationCache<T> translationCache;
 
     /**
      * Get the holder of the important API URLs
@@ -38,6 +101,124 @@ public abstract class GlobalTagsAPI<T> {
         return this.urls;
     }
 
+    /**
+     * Get the options which are used to build the {@link HttpClient} of this API instance. Override this to use a
+     * custom executor, proxy or timeouts.
+     * @return The http options
+     */
+    @NotNull
+    public HttpOptions getHttpOptions() {
+        return this.httpOptions;
+    }
+
+    /**
+     * Get the http client which sends all requests of this API instance. The client is built from
+     * {@link #getHttpOptions()} on first use and shared by all requests afterwards.
+     * @return The http client of this API instance
+     */
+    @NotNull
+    public HttpClient getHttpClient() {
+        HttpClient client = this.httpClient;
+        if (client != null) return client;
+        synchronized (this) {
+            if (this.httpClient == null) {
+                HttpOptions options = this.getHttpOptions();
+                HttpClient.Builder builder = HttpClient.newBuilder()
+                        .version(options.getVersion());
+                if (options.getConnectTimeout() > 0) {
+                    builder.connectTimeout(Duration.ofMillis(options.getConnectTimeout()));
+                }
+                if (options.getExecutor() != null) {
+                    builder.executor(options.getExecutor());
+                }
+                if (options.getProxy() != null) {
+                    builder.proxy(options.getProxy());
+                }
+                this.httpClient = builder.build();
+            }
+            return this.httpClient;
+        }
+    }
+
+    /**
+     * Get the rate limiter every request of this API instance has to pass. Requests which exceed the configured rate
+     * are queued instead of failed. When the API answers with 429 the limiter is paused for the time requested by the
+     * {@code Retry-After} header.
+     * @return The request rate limiter of this API instance
+     */
+    @NotNull
+    public RateLimiter getRateLimiter() {
+        RateLimiter limiter = this.rateLimiter;
+        if (limiter != null) return limiter;
+        synchronized (this) {
+            if (this.rateLimiter == null) {
+                HttpOptions options = this.getHttpOptions();
+                this.rateLimiter = new RateLimiter(
+                        this.getScheduler(),
+                        options.getRequestRate() > 0 ? options.getRequestRate() : Double.POSITIVE_INFINITY,
+                        Math.max(1, options.getRequestBurst())
+                );
+            }
+            return this.rateLimiter;
+        }
+    }
+
+    /**
+     * Get the budget which limits the retries of failed requests of this API instance. It also counts the retries for
+     * monitoring.
+     * @return The retry budget of this API instance
+     */
+    @NotNull
+    public RetryBudget getRetryBudget() {
+        RetryBudget budget = this.retryBudget;
+        if (budget != null) return budget;
+        synchronized (this) {
+            if (this.retryBudget == null) {
+                HttpOptions options = this.getHttpOptions();
+                this.retryBudget = new RetryBudget(
+                        Math.max(0, options.getRetryBudget()),
+                        options.getRetryBudgetWindow()
+                );
+            }
+            return this.retryBudget;
+        }
+    }
+
+    /**
+     * Get the circuit breaker of the current {@link Urls#getApiBase()}. While the breaker is open, requests fail fast
+     * instead of waiting for a timeout and the cache keeps returning stale player info.
+     * @return The circuit breaker of the current API base
+     */
+    @NotNull
+    public CircuitBreaker getCircuitBreaker() {
+        return this.circuitBreakers.computeIfAbsent(this.getUrls().getApiBase(), (base) -> new CircuitBreaker(
+                base,
+                this.getHttpOptions().getCircuitBreakerThreshold(),
+                this.getHttpOptions().getCircuitBreakerOpenDuration(),
+                (breaker, from, to) -> {
+                    for (CircuitBreaker.Listener listener : this.circuitBreakerListeners) {
+                        listener.onStateChange(breaker, from, to);
+                    }
+                }
+        ));
+    }
+
+    /**
+     * Add a listener which is notified when a circuit breaker of this API instance changes its state
+     * @param listener The listener
+     */
+    public void addCircuitBreakerListener(@NotNull CircuitBreaker.Listener listener) {
+        this.circuitBreakerListeners.add(listener);
+    }
+
+    /**
+     * Remove a listener which was added with {@link #addCircuitBreakerListener(CircuitBreaker.Listener)}
+     * @param listener The listener
+     */
+    public void removeCircuitBreakerListener(@NotNull CircuitBreaker.Listener listener) {
+        this.circuitBreakerListeners.remove(listener);
+    }
+
     /**
      * Get the current user agent, version and minecraft version to be identified by the API. Example:
      * <blockquote><pre>
@@ -65,6 +246,34 @@ public abstract class GlobalTagsAPI<T> {
     @NotNull
     public abstract T translateColorCodes(@Nullable String input);
 
+    /**
+     * Get the cache of translated tags. Every {@link PlayerInfo} translates its tag through this cache. If
+     * {@link #getTranslationCacheSize()} is enabled, players who share a tag share a single {@link T} instance, which
+     * therefore must not be modified.
+     * @return The translated tag cache of this API instance
+     */
+    @NotNull
+    public TranslationCache<T> getTranslationCache() {
+        TranslationCache<T> cache = this.translationCache;
+        if (cache != null) return cache;
+        synchronized (this) {
+            if (this.translationCache == null) {
+                this.translationCache = new TranslationCache<>(this::translateColorCodes, this.getTranslationCacheSize());
+            }
+            return this.translationCache;
+        }
+    }
+
+    /**
+     * Get the maximum number of translated tags which are cached. The cache is disabled by default, so every player
+     * gets its own {@link T} instance. Only enable it, for example with a size of 1000, if {@link T} is immutable and
+     * you never modify a translated tag, because players who share a tag then share a single instance.
+     * @return The maximum size of the translated tag cache, or -1 to translate every tag on its own
+     */
+    public int getTranslationCacheSize() {
+        return -1;
+    }
+
     /**
      * If this runs on the client side this will return a client UUID
      * @return The UUID of the current client
@@ -81,6 +290,25 @@ public abstract class GlobalTagsAPI<T> {
         return this.cache;
     }
 
+    /**
+     * Get the icon cache. Override this to cache icons on disk, see {@link IconCache.Options#getDirectory()}.
+     * @return Returns an instance of {@link IconCache}
+     */
+    @NotNull
+    public IconCache getIconCache() {
+        return this.iconCache;
+    }
+
+    /**
+     * Get the icon preprocessor which validates and converts icons before they are uploaded. Override this to change
+     * the accepted formats and size limits.
+     * @return Returns an instance of {@link IconPreprocessor}
+     */
+    @NotNull
+    public IconPreprocessor getIconPreprocessor() {
+        return this.iconPreprocessor;
+    }
+
     /**
      * Get the api handler
      * @return Returns an instance of {@link ApiHandler}
@@ -90,6 +318,70 @@ public abstract class GlobalTagsAPI<T> {
         return this.apiHandler;
     }
 
+    /**
+     * Get the scheduler which runs background work like cache refreshes. The scheduler uses daemon threads and is
+     * created on first use.
+     * @return The background scheduler of this API instance
+     */
+    @NotNull
+    public ScheduledExecutorService getScheduler() {
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler != null) return scheduler;
+        synchronized (this) {
+            if (this.scheduler == null) {
+                AtomicInteger threads = new AtomicInteger();
+                ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, (runnable) -> {
+                    Thread thread = new Thread(runnable, "GlobalTags-Scheduler-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.setRemoveOnCancelPolicy(true);
+                this.scheduler = executor;
+            }
+            return this.scheduler;
+        }
+    }
+
+    /**
+     * Get the executor which runs blocking work like parsing response bodies, so the threads of the http client are
+     * never blocked. If {@link HttpOptions#getWorkerExecutor()} returns null, a cached pool of daemon threads is
+     * created on first use.
+     * @return The worker executor of this API instance
+     */
+    @NotNull
+    public Executor getWorkerExecutor() {
+        Executor configured = this.getHttpOptions().getWorkerExecutor();
+        if (configured != null) return configured;
+        ExecutorService executor = this.workerExecutor;
+        if (executor != null) return executor;
+        synchronized (this) {
+            if (this.workerExecutor == null) {
+                AtomicInteger threads = new AtomicInteger();
+                this.workerExecutor = Executors.newCachedThreadPool((runnable) -> {
+                    Thread thread = new Thread(runnable, "GlobalTags-Worker-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return this.workerExecutor;
+        }
+    }
+
+    /**
+     * Stops all background work of this API instance. Requests which are already running are not cancelled.
+     */
+    @Override
+    public void close() {
+        try {
+            this.getCache().close();
+        } finally {
+            ScheduledExecutorService scheduler = this.scheduler;
+            if (scheduler != null) scheduler.shutdownNow();
+            ExecutorService workerExecutor = this.workerExecutor;
+            if (workerExecutor != null) workerExecutor.shutdown();
+        }
+    }
+
     /**
      * Get the authentication type used to authenticate with the api
      * @return The authentication type used to authenticate with the api
@@ -183,6 +475,161 @@ public abstract class GlobalTagsAPI<T> {
         }
     }
 
+    /**
+     * Options for the {@link HttpClient} of an API instance. All methods have defaults, so only the relevant ones need
+     * to be overridden.
+     */
+    public interface HttpOptions {
+
+        /**
+         * The executor which runs the asynchronous tasks of the http client. On Java 21 and later
+         * {@code Executors.newVirtualThreadPerTaskExecutor()} can be returned here. Pass null to use the default
+         * executor of the http client. Response bodies are parsed on {@link #getWorkerExecutor()} instead.
+         *
+         * @return The executor of the http client
+         */
+        @Nullable
+        default Executor getExecutor() {
+            return null;
+        }
+
+        /**
+         * The executor which runs blocking work like parsing response bodies and disk access. Response bodies are
+         * parsed while they are received, so the executor should be able to run more than one task at a time. Pass null
+         * to use a cached pool of daemon threads which is shut down when the API instance is closed.
+         *
+         * @return The executor for blocking work
+         */
+        @Nullable
+        default Executor getWorkerExecutor() {
+            return null;
+        }
+
+        /**
+         * The preferred http version. With HTTP/2 concurrent requests are multiplexed over a single connection, the
+         * client falls back to HTTP/1.1 if the server doesn't support it.
+         *
+         * @return The preferred http version
+         */
+        @NotNull
+        default HttpClient.Version getVersion() {
+            return HttpClient.Version.HTTP_2;
+        }
+
+        /**
+         * The time in milliseconds after which connecting to the API is aborted. If you want to disable the timeout,
+         * pass -1.
+         *
+         * @return The connect timeout
+         */
+        default long getConnectTimeout() {
+            return 10000;
+        }
+
+        /**
+         * The time in milliseconds after which a request is aborted if the API didn't respond. If you want to disable
+         * the timeout, pass -1.
+         *
+         * @return The request timeout
+         */
+        default long getRequestTimeout() {
+            return 30000;
+        }
+
+        /**
+         * The number of requests per second which are sent to the API. Requests above this rate are queued. By default
+         * there is no limit, requests are only held back after the API answered with 429 Too Many Requests, for as
+         * long as its {@code Retry-After} header asks. {@code Retry-After} headers are honored either way.
+         *
+         * @return The maximum request rate, or -1 for no limit
+         */
+        default double getRequestRate() {
+            return -1;
+        }
+
+        /**
+         * The number of requests which can be sent at once before {@link #getRequestRate()} applies. Ignored if there
+         * is no request rate.
+         *
+         * @return The maximum request burst
+         */
+        default int getRequestBurst() {
+            return 20;
+        }
+
+        /**
+         * The time in milliseconds all requests are paused after the API answered with 429 without a
+         * {@code Retry-After} header.
+         *
+         * @return The default time to back off
+         */
+        default long getDefaultRetryAfter() {
+            return 1000;
+        }
+
+        /**
+         * The maximum number of retries within {@link #getRetryBudgetWindow()}. Which requests are retried is
+         * configured with {@link com.rappytv.globaltags.wrapper.http.Routes#setRetryPolicy}. If you want to disable
+         * retries, pass 0.
+         *
+         * @return The maximum number of retries per window
+         */
+        default int getRetryBudget() {
+            return 50;
+        }
+
+        /**
+         * The length of the window for {@link #getRetryBudget()} in milliseconds.
+         *
+         * @return The length of the retry budget window
+         */
+        default long getRetryBudgetWindow() {
+            return 10000;
+        }
+
+        /**
+         * The number of consecutive failed requests after which the circuit breaker of the API base opens. Requests
+         * which fail with a transport error or a 5xx status code count as failed. If you want to disable the circuit
+         * breaker, pass -1.
+         *
+         * @return The failure threshold of the circuit breaker
+         */
+        default int getCircuitBreakerThreshold() {
+            return 5;
+        }
+
+        /**
+         * The time in milliseconds the circuit breaker stays open before a single request is sent to check if the API
+         * is available again.
+         *
+         * @return The open duration of the circuit breaker
+         */
+        default long getCircuitBreakerOpenDuration() {
+            return 30000;
+        }
+
+        /**
+         * The maximum number of requests which are sent at the same time when many players are fetched at once, for
+         * example with {@link com.rappytv.globaltags.wrapper.http.ApiHandler#getInfos(java.util.Collection)} or
+         * {@link PlayerInfo.Cache#resolveAll(java.util.Collection)}.
+         *
+         * @return The maximum number of concurrent requests of a batch
+         */
+        default int getBatchConcurrency() {
+            return 8;
+        }
+
+        /**
+         * The proxy selector of the http client. Pass null to connect directly.
+         *
+         * @return The proxy selector
+         */
+        @Nullable
+        default ProxySelector getProxy() {
+            return null;
+        }
+    }
+
     /**
      * This class contains all important base urls the API uses.
      */
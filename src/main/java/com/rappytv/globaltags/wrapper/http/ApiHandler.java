@@ -7,17 +7,24 @@ import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
 import com.rappytv.globaltags.wrapper.enums.ReferralLeaderboardType;
 import com.rappytv.globaltags.wrapper.http.schemas.*;
 import com.rappytv.globaltags.wrapper.model.*;
+import com.rappytv.globaltags.wrapper.util.Futures;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
- * A class containing all requests to the <a href="https://github.com/Global-Tags/API">GlobalTagAPI</a>
+ * A class containing all requests to the <a href="https://github.com/Global-Tags/API">GlobalTagAPI</a>. Every request
+ * is available with a {@link Consumer} callback and as a {@link CompletableFuture}.
  *
  * @param <T> The same as the T value of your {@link GlobalTagsAPI} instance.
  */
@@ -30,6 +37,7 @@ public class ApiHandler<T> {
     private static final Map<String, Object> emptyBody = Map.of("data", "placeholder data");
 
     private final GlobalTagsAPI<T> api;
+    private volatile IconUploadHistory uploadHistory;
 
     /**
      * Instantiates a new ApiHandler
@@ -47,18 +55,24 @@ public class ApiHandler<T> {
      */
     public void getApiInfo(@NotNull Consumer<ApiResponse<ApiInfo>> consumer) {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.getApiInfo(),
-                ApiInfo.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        this.getApiInfo().thenAccept(consumer);
+    }
+
+    /**
+     * A request to get the api version
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<ApiInfo>> getApiInfo() {
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.getApiInfo(),
+                        ApiInfo.class
+                )
+        );
     }
 
     /**
@@ -68,45 +82,53 @@ public class ApiHandler<T> {
      */
     public void getReferralLeaderboards(@NotNull Consumer<ApiResponse<Map<ReferralLeaderboardType, List<ReferralLeaderboardEntry>>>> consumer) {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.getReferralLeaderboards(),
-                ReferralLeaderboardsSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            ReferralLeaderboardsSchema schemas = response.getData();
-            Map<ReferralLeaderboardType, List<ReferralLeaderboardEntry>> leaderboards = new HashMap<>();
-            List<ReferralLeaderboardEntry> totalEntries = new ArrayList<>();
-            List<ReferralLeaderboardEntry> currentMonthEntries = new ArrayList<>();
-            try {
-                for (int i = 0; i < schemas.totalLeaderboard.length; i++) {
-                    ReferralLeaderboardsSchema.ReferralLeaderboardEntrySchema entry = schemas.totalLeaderboard[i];
-                    totalEntries.add(new ReferralLeaderboardEntry(
-                            i + 1,
-                            UUID.fromString(entry.uuid),
-                            entry.totalReferrals,
-                            entry.currentMonthReferrals
-                    ));
-                }
-                for (int i = 0; i < schemas.currentMonthLeaderboard.length; i++) {
-                    ReferralLeaderboardsSchema.ReferralLeaderboardEntrySchema entry = schemas.currentMonthLeaderboard[i];
-                    currentMonthEntries.add(new ReferralLeaderboardEntry(
-                            i + 1,
-                            UUID.fromString(entry.uuid),
-                            entry.totalReferrals,
-                            entry.currentMonthReferrals
-                    ));
+        this.getReferralLeaderboards().thenAccept(consumer);
+    }
+
+    /**
+     * A request to get the current referral leaderboards
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<Map<ReferralLeaderboardType, List<ReferralLeaderboardEntry>>>> getReferralLeaderboards() {
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.getReferralLeaderboards(),
+                        ReferralLeaderboardsSchema.class
+                ),
+                (schemas) -> {
+                    Map<ReferralLeaderboardType, List<ReferralLeaderboardEntry>> leaderboards = new HashMap<>();
+                    List<ReferralLeaderboardEntry> totalEntries = new ArrayList<>();
+                    List<ReferralLeaderboardEntry> currentMonthEntries = new ArrayList<>();
+                    try {
+                        for (int i = 0; i < schemas.totalLeaderboard.length; i++) {
+                            ReferralLeaderboardsSchema.ReferralLeaderboardEntrySchema entry = schemas.totalLeaderboard[i];
+                            totalEntries.add(new ReferralLeaderboardEntry(
+                                    i + 1,
+                                    UUID.fromString(entry.uuid),
+                                    entry.totalReferrals,
+                                    entry.currentMonthReferrals
+                            ));
+                        }
+                        for (int i = 0; i < schemas.currentMonthLeaderboard.length; i++) {
+                            ReferralLeaderboardsSchema.ReferralLeaderboardEntrySchema entry = schemas.currentMonthLeaderboard[i];
+                            currentMonthEntries.add(new ReferralLeaderboardEntry(
+                                    i + 1,
+                                    UUID.fromString(entry.uuid),
+                                    entry.totalReferrals,
+                                    entry.currentMonthReferrals
+                            ));
+                        }
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                    leaderboards.put(ReferralLeaderboardType.TOTAL, totalEntries);
+                    leaderboards.put(ReferralLeaderboardType.CURRENT_MONTH, currentMonthEntries);
+                    return leaderboards;
                 }
-            } catch (IllegalArgumentException ignored) {
-            }
-            leaderboards.put(ReferralLeaderboardType.TOTAL, totalEntries);
-            leaderboards.put(ReferralLeaderboardType.CURRENT_MONTH, currentMonthEntries);
-            consumer.accept(new ApiResponse<>(true, leaderboards, null));
-        });
+        );
     }
 
     /**
@@ -119,6 +141,17 @@ public class ApiHandler<T> {
         this.getInfo(this.api.getClientUUID(), consumer);
     }
 
+    /**
+     * A request to get the player info of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<PlayerInfo<T>>> getInfo() {
+        Objects.requireNonNull(this.api.getClientUUID(), "client uuid cannot be null");
+        return this.getInfo(this.api.getClientUUID());
+    }
+
     /**
      * A request to get the player info of a specific uuid
      *
@@ -126,36 +159,91 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getInfo(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<PlayerInfo<T>>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.getInfo(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get the player info of a specific uuid
+     *
+     * @param uuid The uuid to get the info of
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<PlayerInfo<T>>> getInfo(@NotNull UUID uuid) {
+        return this.getInfoIfModified(uuid, null);
+    }
+
+    /**
+     * A conditional request to get the player info of a specific uuid. If the info didn't change since the validator
+     * was received, the response is {@link ApiResponse#isNotModified() not modified} and has no data.
+     *
+     * @param uuid      The uuid to get the info of
+     * @param validator The {@link ApiResponse#getValidator()} of a previous response for this uuid
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<PlayerInfo<T>>> getInfoIfModified(@NotNull UUID uuid, @Nullable Validator validator) {
         Objects.requireNonNull(uuid);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.player(uuid),
-                PlayerInfoSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            PlayerInfoSchema body = response.getData();
-            consumer.accept(new ApiResponse<>(
-                    true,
-                    new PlayerInfo<>(
-                            this.api,
-                            uuid,
-                            body.tag,
-                            body.position,
-                            body.icon,
-                            body.referrals,
-                            body.roleIcon,
-                            body.hideRoleIcon,
-                            body.roles,
-                            body.permissions,
-                            body.ban
-                    ),
-                    null
-            ));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.player(uuid),
+                        PlayerInfoSchema.class
+                ).setValidator(validator),
+                (body) -> new PlayerInfo<>(
+                        this.api,
+                        uuid,
+                        body.tag,
+                        body.position,
+                        body.icon,
+                        body.referrals,
+                        body.roleIcon,
+                        body.hideRoleIcon,
+                        body.roles,
+                        body.permissions,
+                        body.ban
+                )
+        );
+    }
+
+    /**
+     * A request to get the player info of multiple uuids. The API has no bulk endpoint, so one request is sent per
+     * uuid, with at most {@link GlobalTagsAPI.HttpOptions#getBatchConcurrency()} requests running at the same time.
+     *
+     * @param uuids    The uuids to get the info of
+     * @param consumer The action to be executed once all responses arrived.
+     */
+    public void getInfos(@NotNull Collection<UUID> uuids, @NotNull Consumer<Map<UUID, ApiResponse<PlayerInfo<T>>>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.getInfos(uuids).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get the player info of multiple uuids. The API has no bulk endpoint, so one request is sent per
+     * uuid, with at most {@link GlobalTagsAPI.HttpOptions#getBatchConcurrency()} requests running at the same time.
+     *
+     * @param uuids The uuids to get the info of
+     * @return A future which is completed with the responses by uuid once all responses arrived.
+     */
+    @NotNull
+    public CompletableFuture<Map<UUID, ApiResponse<PlayerInfo<T>>>> getInfos(@NotNull Collection<UUID> uuids) {
+        return this.getInfos(uuids, this.api.getHttpOptions().getBatchConcurrency());
+    }
+
+    /**
+     * A request to get the player info of multiple uuids. The API has no bulk endpoint, so one request is sent per
+     * uuid.
+     *
+     * @param uuids       The uuids to get the info of
+     * @param concurrency The maximum number of requests which run at the same time
+     * @return A future which is completed with the responses by uuid once all responses arrived.
+     */
+    @NotNull
+    public CompletableFuture<Map<UUID, ApiResponse<PlayerInfo<T>>>> getInfos(@NotNull Collection<UUID> uuids, int concurrency) {
+        Objects.requireNonNull(uuids);
+        return Futures.fanOut(uuids, Math.max(1, concurrency), this::getInfo);
     }
 
     /**
@@ -168,6 +256,17 @@ public class ApiHandler<T> {
         this.getTagHistory(this.api.getClientUUID(), consumer);
     }
 
+    /**
+     * A request to get the tag history of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<TagHistoryEntry>>> getTagHistory() {
+        Objects.requireNonNull(this.api.getClientUUID(), "client uuid cannot be null");
+        return this.getTagHistory(this.api.getClientUUID());
+    }
+
     /**
      * A request to get the tag history of a specific uuid
      *
@@ -175,23 +274,28 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getTagHistory(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<List<TagHistoryEntry>>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.getTagHistory(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get the tag history of a specific uuid
+     *
+     * @param uuid     The uuid to get the tag history of
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<TagHistoryEntry>>> getTagHistory(@NotNull UUID uuid) {
         Objects.requireNonNull(uuid);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.tagHistory(uuid),
-                TagHistoryEntry[].class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(
-                    true,
-                    Arrays.asList(response.getData()),
-                    null
-            ));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.tagHistory(uuid),
+                        TagHistoryEntry[].class
+                ),
+                (data) -> Arrays.asList(data)
+        );
     }
 
     /**
@@ -206,6 +310,19 @@ public class ApiHandler<T> {
         this.setTag(this.api.getClientUUID(), tag, consumer);
     }
 
+    /**
+     * A request to update the tag of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param tag      The new tag you want to set
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setTag(@NotNull String tag) {
+        Objects.requireNonNull(this.api.getClientUUID(), "client uuid cannot be null");
+        Objects.requireNonNull(tag);
+        return this.setTag(this.api.getClientUUID(), tag);
+    }
+
     /**
      * A request to update the tag of a specific uuid
      *
@@ -214,24 +331,32 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void setTag(@NotNull UUID uuid, @NotNull String tag, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.setTag(uuid, tag).thenAccept(consumer);
+    }
+
+    /**
+     * A request to update the tag of a specific uuid
+     *
+     * @param uuid     The uuid you want to update the tag of
+     * @param tag      The new tag you want to set
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setTag(@NotNull UUID uuid, @NotNull String tag) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(tag);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.player(uuid),
-                Map.of("tag", tag),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.player(uuid),
+                        Map.of("tag", tag),
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -246,6 +371,19 @@ public class ApiHandler<T> {
         this.setPosition(this.api.getClientUUID(), position, consumer);
     }
 
+    /**
+     * A request to update the {@link GlobalPosition} of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param position The new position you want to set
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setPosition(@NotNull GlobalPosition position) {
+        Objects.requireNonNull(this.api.getClientUUID(), "client uuid cannot be null");
+        Objects.requireNonNull(position);
+        return this.setPosition(this.api.getClientUUID(), position);
+    }
+
     /**
      * A request to update the {@link GlobalPosition} of a specific uuid
      *
@@ -254,24 +392,32 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void setPosition(@NotNull UUID uuid, @NotNull GlobalPosition position, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.setPosition(uuid, position).thenAccept(consumer);
+    }
+
+    /**
+     * A request to update the {@link GlobalPosition} of a specific uuid
+     *
+     * @param uuid     The uuid you want to update the position of
+     * @param position The new position you want to set
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setPosition(@NotNull UUID uuid, @NotNull GlobalPosition position) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(position);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.setPosition(uuid),
-                Map.of("position", position.name()),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.setPosition(uuid),
+                        Map.of("position", position.name()),
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -286,6 +432,19 @@ public class ApiHandler<T> {
         this.setIcon(this.api.getClientUUID(), icon, consumer);
     }
 
+    /**
+     * A request to update the global icon of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param icon     The new icon you want to set
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setIcon(@NotNull GlobalIcon icon) {
+        Objects.requireNonNull(this.api.getClientUUID(), "client uuid cannot be null");
+        Objects.requireNonNull(icon);
+        return this.setIcon(this.api.getClientUUID(), icon);
+    }
+
     /**
      * A request to update the global icon of a specific uuid
      *
@@ -294,24 +453,32 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void setIcon(@NotNull UUID uuid, @NotNull GlobalIcon icon, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.setIcon(uuid, icon).thenAccept(consumer);
+    }
+
+    /**
+     * A request to update the global icon of a specific uuid
+     *
+     * @param uuid     The uuid you want to update the icon of
+     * @param icon     The new icon you want to set
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setIcon(@NotNull UUID uuid, @NotNull GlobalIcon icon) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(icon);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.setIcon(uuid),
-                Map.of("icon", icon.name()),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.setIcon(uuid),
+                        Map.of("icon", icon.name()),
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -320,38 +487,198 @@ public class ApiHandler<T> {
      * @param uuid     The uuid you want to upload the icon for
      * @param file     The image file you want to upload
      * @param consumer The action to be executed on response.
+     * @throws IOException If the file does not exist
      */
     public void uploadIcon(@NotNull UUID uuid, @NotNull File file, @NotNull Consumer<ApiResponse<IconUploadSchema>> consumer) throws IOException {
         Objects.requireNonNull(file);
         this.uploadIcon(uuid, file.toPath(), consumer);
     }
 
+    /**
+     * A request to upload a custom icon for a specific uuid
+     *
+     * @param uuid     The uuid you want to upload the icon for
+     * @param file     The image file you want to upload
+     * @return A future which is completed with the response.
+     * @throws IOException If the file does not exist
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<IconUploadSchema>> uploadIcon(@NotNull UUID uuid, @NotNull File file) throws IOException {
+        Objects.requireNonNull(file);
+        return this.uploadIcon(uuid, file.toPath());
+    }
+
     /**
      * A request to upload a custom icon for a specific uuid
      *
      * @param uuid     The uuid you want to upload the icon for
      * @param path     The image file path you want to upload
      * @param consumer The action to be executed on response.
+     * @throws IOException If the file does not exist
      */
     public void uploadIcon(@NotNull UUID uuid, @NotNull Path path, @NotNull Consumer<ApiResponse<IconUploadSchema>> consumer) throws IOException {
+        Objects.requireNonNull(consumer);
+        this.uploadIcon(uuid, path).thenAccept(consumer);
+    }
+
+    /**
+     * A request to upload a custom icon for a specific uuid. The icon is validated and converted to png with
+     * {@link GlobalTagsAPI#getIconPreprocessor()} on the {@link GlobalTagsAPI#getWorkerExecutor()} first, an invalid
+     * or unreadable icon results in an unsuccessful response without sending a request.
+     *
+     * @param uuid     The uuid you want to upload the icon for
+     * @param path     The image file path you want to upload
+     * @return A future which is completed with the response.
+     * @throws IOException If the file does not exist
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<IconUploadSchema>> uploadIcon(@NotNull UUID uuid, @NotNull Path path) throws IOException {
         Objects.requireNonNull(uuid);
-        Objects.requireNonNull(path);
+        return this.processIcon(path, (icon) -> this.uploadIcon(uuid, path, icon));
+    }
+
+    /**
+     * A request to upload a custom icon for a specific uuid, unless the player already has this icon. The icon is
+     * processed like in {@link #uploadIcon(UUID, Path)} and its hash is compared with
+     * {@link PlayerInfo#getGlobalIconHash()} of the cached player first. If they match, or the player still has the
+     * icon which was last uploaded from the same file, no request is sent and the response is
+     * {@link ApiResponse#isSkipped() skipped}.
+     *
+     * @param uuid     The uuid you want to upload the icon for
+     * @param path     The image file path you want to upload
+     * @param consumer The action to be executed on response.
+     * @throws IOException If the file does not exist
+     */
+    public void uploadIconIfChanged(@NotNull UUID uuid, @NotNull Path path, @NotNull Consumer<ApiResponse<IconUploadSchema>> consumer) throws IOException {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.uploadIcon(uuid),
-                MultipartData.newBuilder().addFile("image", path, "image/png").build(),
-                IconUploadSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
+        this.uploadIconIfChanged(uuid, path).thenAccept(consumer);
+    }
+
+    /**
+     * A request to upload a custom icon for a specific uuid, unless the player already has this icon. The icon is
+     * processed like in {@link #uploadIcon(UUID, Path)} and its hash is compared with
+     * {@link PlayerInfo#getGlobalIconHash()} of the cached player first. If they match, or the player still has the
+     * icon which was last uploaded from the same file, no request is sent and the response is
+     * {@link ApiResponse#isSkipped() skipped}.
+     *
+     * @param uuid     The uuid you want to upload the icon for
+     * @param path     The image file path you want to upload
+     * @return A future which is completed with the response.
+     * @throws IOException If the file does not exist
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<IconUploadSchema>> uploadIconIfChanged(@NotNull UUID uuid, @NotNull Path path) throws IOException {
+        Objects.requireNonNull(uuid);
+        return this.processIcon(path, (icon) -> this.api.getCache().resolveAll(Set.of(uuid)).thenCompose((players) -> {
+            PlayerInfo<T> info = players.get(uuid);
+            String current = info != null && info.getGlobalIcon() == GlobalIcon.CUSTOM ? info.getGlobalIconHash() : null;
+            if (current != null && (current.equalsIgnoreCase(icon.getHash()) || this.getUploadHistory().isUploaded(uuid, icon.getHash(), current))) {
+                return CompletableFuture.completedFuture(ApiResponse.skipped(new IconUploadSchema("The icon is already up to date", current)));
             }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData(), null))
-            );
-        });
+            return this.uploadIcon(uuid, path, icon);
+        }));
+    }
+
+    /**
+     * Processes an icon with {@link GlobalTagsAPI#getIconPreprocessor()} on the
+     * {@link GlobalTagsAPI#getWorkerExecutor()}, so decoding and encoding the image never blocks the caller
+     *
+     * @param path   The image file path
+     * @param upload The request which is sent with the processed icon
+     * @return A future which is completed with the response, or with an unsuccessful response if the icon could not be
+     * processed
+     * @throws IOException If the file does not exist
+     */
+    @NotNull
+    private CompletableFuture<ApiResponse<IconUploadSchema>> processIcon(
+            @NotNull Path path,
+            @NotNull Function<IconPreprocessor.ProcessedIcon, CompletableFuture<ApiResponse<IconUploadSchema>>> upload
+    ) throws IOException {
+        Objects.requireNonNull(path);
+        if (!Files.isRegularFile(path)) throw new NoSuchFileException(path.toString());
+        CompletableFuture<IconPreprocessor.ProcessedIcon> processed = new CompletableFuture<>();
+        try {
+            this.api.getWorkerExecutor().execute(() -> {
+                try {
+                    processed.complete(this.api.getIconPreprocessor().process(path));
+                } catch (Throwable throwable) {
+                    processed.completeExceptionally(throwable);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(new ApiResponse<>(false, null, "The API instance is closed"));
+        }
+        return processed.handle((icon, throwable) -> {
+            if (throwable != null) {
+                return CompletableFuture.completedFuture(new ApiResponse<IconUploadSchema>(false, null, throwable.getLocalizedMessage()));
+            }
+            return upload.apply(icon);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Get the upload history, which is created with {@link IconPreprocessor.Options#getUploadHistoryFile()} of
+     * {@link GlobalTagsAPI#getIconPreprocessor()} on first use
+     *
+     * @return The upload history
+     */
+    @NotNull
+    private IconUploadHistory getUploadHistory() {
+        IconUploadHistory history = this.uploadHistory;
+        if (history != null) return history;
+        synchronized (this) {
+            if (this.uploadHistory == null) {
+                this.uploadHistory = new IconUploadHistory(this.api.getIconPreprocessor().getOptions().getUploadHistoryFile());
+            }
+            return this.uploadHistory;
+        }
+    }
+
+    /**
+     * Uploads a processed icon. The hash the API returns is recorded in the upload history, so
+     * {@link #uploadIconIfChanged(UUID, Path)} recognizes the icon even if the API hashes icons differently than
+     * {@link IconPreprocessor.Options#getHashAlgorithm()}.
+     *
+     * @param uuid The uuid you want to upload the icon for
+     * @param path The image file path the icon was read from
+     * @param icon The processed icon
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    private CompletableFuture<ApiResponse<IconUploadSchema>> uploadIcon(@NotNull UUID uuid, @NotNull Path path, @NotNull IconPreprocessor.ProcessedIcon icon) {
+        String fileName = path.getFileName().toString().replaceFirst("\\.[^.]*$", "") + ".png";
+        MultipartData body;
+        try {
+            MultipartData.Builder builder = MultipartData.newBuilder();
+            if (icon.getSource() != null) {
+                builder.addFile("image", fileName, icon.getSource(), icon.getMimeType());
+            } else {
+                builder.addFile("image", fileName, icon.getData(), icon.getMimeType());
+            }
+            body = builder.build();
+        } catch (IOException e) {
+            return CompletableFuture.completedFuture(new ApiResponse<>(false, null, e.getLocalizedMessage()));
+        }
+        CompletableFuture<ApiResponse<IconUploadSchema>> future = this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.uploadIcon(uuid),
+                        body,
+                        IconUploadSchema.class
+                ),
+                uuid
+        );
+        return Futures.propagateCancellation(future.thenApply((response) -> {
+            if (response.isSuccessful() && response.getData() != null && response.getData().getHash() != null) {
+                try {
+                    this.getUploadHistory().record(uuid, icon.getHash(), response.getData().getHash());
+                } catch (IOException ignored) {
+                    // The icon was uploaded, a lost history entry only costs one redundant upload
+                }
+            }
+            return response;
+        }), future);
     }
 
     /**
@@ -365,6 +692,18 @@ public class ApiHandler<T> {
         this.setRoleIconVisibility(this.api.getClientUUID(), visible, consumer);
     }
 
+    /**
+     * A request to update the role icon visibility of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param visible  If the icon should be visible or not
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setRoleIconVisibility(boolean visible) {
+        Objects.requireNonNull(this.api.getClientUUID(), "client uuid cannot be null");
+        return this.setRoleIconVisibility(this.api.getClientUUID(), visible);
+    }
+
     /**
      * A request to update the role icon visibility of a specific uuid
      *
@@ -373,23 +712,31 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void setRoleIconVisibility(@NotNull UUID uuid, boolean visible, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "PATCH",
-                Routes.roleIconVisiblity(uuid),
-                Map.of("visible", visible),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        this.setRoleIconVisibility(uuid, visible).thenAccept(consumer);
+    }
+
+    /**
+     * A request to update the role icon visibility of a specific uuid
+     *
+     * @param uuid     The uuid you want to update the role icon visibility of
+     * @param visible  If the icon should be visible or not
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> setRoleIconVisibility(@NotNull UUID uuid, boolean visible) {
+        Objects.requireNonNull(uuid);
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "PATCH",
+                        Routes.roleIconVisiblity(uuid),
+                        Map.of("visible", visible),
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -402,6 +749,17 @@ public class ApiHandler<T> {
         this.resetTag(this.api.getClientUUID(), consumer);
     }
 
+    /**
+     * A request to clear the tag of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> resetTag() {
+        Objects.requireNonNull(this.api.getClientUUID(), "client uuid cannot be null");
+        return this.resetTag(this.api.getClientUUID());
+    }
+
     /**
      * A request to clear the tag of a specific uuid
      *
@@ -409,23 +767,30 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void resetTag(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "DELETE",
-                Routes.player(uuid),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        this.resetTag(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to clear the tag of a specific uuid
+     *
+     * @param uuid     The uuid you want to clear the tag of
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> resetTag(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid);
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "DELETE",
+                        Routes.player(uuid),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -435,21 +800,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getWatchlistStatus(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<Boolean>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.watchlist(uuid),
-                emptyBody,
-                WatchlistSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().watched, null));
-        });
+        this.getWatchlistStatus(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get a player's watchlist status
+     *
+     * @param uuid     The uuid you want to get the watchlist status of
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<Boolean>> getWatchlistStatus(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.watchlist(uuid),
+                        emptyBody,
+                        WatchlistSchema.class
+                ),
+                (data) -> data.watched
+        );
     }
 
     /**
@@ -459,21 +832,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void updateWatchlistStatus(@NotNull UUID uuid, boolean watched, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "PATCH",
-                Routes.watchlist(uuid),
-                Map.of("watched", watched),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.updateWatchlistStatus(uuid, watched).thenAccept(consumer);
+    }
+
+    /**
+     * A request to add a player to the watchlist
+     *
+     * @param uuid     The uuid you want to add to the watchlist
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> updateWatchlistStatus(@NotNull UUID uuid, boolean watched) {
+        Objects.requireNonNull(uuid);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "PATCH",
+                        Routes.watchlist(uuid),
+                        Map.of("watched", watched),
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -483,21 +864,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response
      */
     public void getApiKeys(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<List<ApiKey>>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.apiKeys(uuid),
-                emptyBody,
-                ApiKey[].class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, Arrays.asList(response.getData()), null));
-        });
+        this.getApiKeys(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get a player's API keys
+     *
+     * @param uuid     The uuid you want to get the API keys of
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<ApiKey>>> getApiKeys(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.apiKeys(uuid),
+                        emptyBody,
+                        ApiKey[].class
+                ),
+                (data) -> Arrays.asList(data)
+        );
     }
 
     /**
@@ -508,22 +897,30 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getApiKey(@NotNull UUID uuid, @NotNull String name, @NotNull Consumer<ApiResponse<ApiKey>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.getApiKey(uuid, name).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get a player's API key
+     *
+     * @param uuid     The uuid you want to get the API key of
+     * @param name     The name of the API key
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<ApiKey>> getApiKey(@NotNull UUID uuid, @NotNull String name) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(name);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.apiKey(uuid, name),
-                emptyBody,
-                ApiKey.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.apiKey(uuid, name),
+                        emptyBody,
+                        ApiKey.class
+                )
+        );
     }
 
     /**
@@ -534,22 +931,30 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void createApiKey(@NotNull UUID uuid, @NotNull String name, @NotNull Consumer<ApiResponse<ApiKeyCreationSchema>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.createApiKey(uuid, name).thenAccept(consumer);
+    }
+
+    /**
+     * A request to create a player API key
+     *
+     * @param uuid     The uuid you want to create the API key for
+     * @param name     The name of the API key
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<ApiKeyCreationSchema>> createApiKey(@NotNull UUID uuid, @NotNull String name) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(name);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.apiKeys(uuid),
-                Map.of("name", name),
-                ApiKeyCreationSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.apiKeys(uuid),
+                        Map.of("name", name),
+                        ApiKeyCreationSchema.class
+                )
+        );
     }
 
     /**
@@ -560,22 +965,30 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void regenerateApiKey(@NotNull UUID uuid, @NotNull String name, @NotNull Consumer<ApiResponse<ApiKeyRegenSchema>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.regenerateApiKey(uuid, name).thenAccept(consumer);
+    }
+
+    /**
+     * A request to regenerate a player's API key
+     *
+     * @param uuid     The uuid you want to regenerate the API key of
+     * @param name     The name of the API key
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<ApiKeyRegenSchema>> regenerateApiKey(@NotNull UUID uuid, @NotNull String name) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(name);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "PATCH",
-                Routes.apiKey(uuid, name),
-                emptyBody,
-                ApiKeyRegenSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "PATCH",
+                        Routes.apiKey(uuid, name),
+                        emptyBody,
+                        ApiKeyRegenSchema.class
+                )
+        );
     }
 
     /**
@@ -586,22 +999,31 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void deleteApiKey(@NotNull UUID uuid, @NotNull String name, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.deleteApiKey(uuid, name).thenAccept(consumer);
+    }
+
+    /**
+     * A request to delete a player's API key
+     *
+     * @param uuid     The uuid you want to delete the API key of
+     * @param name     The name of the API key
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> deleteApiKey(@NotNull UUID uuid, @NotNull String name) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(name);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "DELETE",
-                Routes.apiKey(uuid, name),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "DELETE",
+                        Routes.apiKey(uuid, name),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -611,19 +1033,26 @@ public class ApiHandler<T> {
      */
     public void getGiftCodes(@NotNull Consumer<ApiResponse<List<GiftCode>>> consumer) {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.giftCodes(),
-                emptyBody,
-                GiftCode[].class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, Arrays.asList(response.getData()), null));
-        });
+        this.getGiftCodes().thenAccept(consumer);
+    }
+
+    /**
+     * A request to get all gift codes
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<GiftCode>>> getGiftCodes() {
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.giftCodes(),
+                        emptyBody,
+                        GiftCode[].class
+                ),
+                (data) -> Arrays.asList(data)
+        );
     }
 
     /**
@@ -633,21 +1062,28 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getGiftCode(@NotNull String code, @NotNull Consumer<ApiResponse<GiftCode>> consumer) {
-        Objects.requireNonNull(code);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.giftCode(code),
-                emptyBody,
-                GiftCode.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        this.getGiftCode(code).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get a specific gift code
+     *
+     * @param code     The gift code
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<GiftCode>> getGiftCode(@NotNull String code) {
+        Objects.requireNonNull(code);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.giftCode(code),
+                        emptyBody,
+                        GiftCode.class
+                )
+        );
     }
 
     /**
@@ -662,6 +1098,19 @@ public class ApiHandler<T> {
         this.createGiftCode(name, role, maxUses, null, null, consumer);
     }
 
+    /**
+     * A request to create a gift code
+     *
+     * @param name     The name of the gift code
+     * @param role     The gifted role
+     * @param maxUses  The maximum number uses of the code
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<GiftCodeCreationSchema>> createGiftCode(@NotNull String name, @NotNull String role, int maxUses) {
+        return this.createGiftCode(name, role, maxUses, (Date) null, (Long) null);
+    }
+
     /**
      * A request to create a gift code
      *
@@ -675,6 +1124,20 @@ public class ApiHandler<T> {
         this.createGiftCode(name, role, maxUses, null, giftDuration, consumer);
     }
 
+    /**
+     * A request to create a gift code
+     *
+     * @param name         The name of the gift code
+     * @param role         The gifted role
+     * @param maxUses      The maximum number uses of the cod
+     * @param giftDuration How long the gifted role should last in milliseconds
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<GiftCodeCreationSchema>> createGiftCode(@NotNull String name, @NotNull String role, int maxUses, @Nullable Long giftDuration) {
+        return this.createGiftCode(name, role, maxUses, (Date) null, giftDuration);
+    }
+
     /**
      * A request to create a gift code
      *
@@ -688,6 +1151,20 @@ public class ApiHandler<T> {
         this.createGiftCode(name, role, maxUses, codeExpiration, null, consumer);
     }
 
+    /**
+     * A request to create a gift code
+     *
+     * @param name           The name of the gift code
+     * @param role           The gifted role
+     * @param maxUses        The maximum number uses of the code
+     * @param codeExpiration A date when the code should expire
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<GiftCodeCreationSchema>> createGiftCode(@NotNull String name, @NotNull String role, int maxUses, @Nullable Date codeExpiration) {
+        return this.createGiftCode(name, role, maxUses, codeExpiration, (Long) null);
+    }
+
     /**
      * A request to create a gift code
      *
@@ -699,9 +1176,24 @@ public class ApiHandler<T> {
      * @param consumer       The action to be executed on response.
      */
     public void createGiftCode(@NotNull String name, @NotNull String role, int maxUses, @Nullable Date codeExpiration, @Nullable Long giftDuration, @NotNull Consumer<ApiResponse<GiftCodeCreationSchema>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.createGiftCode(name, role, maxUses, codeExpiration, giftDuration).thenAccept(consumer);
+    }
+
+    /**
+     * A request to create a gift code
+     *
+     * @param name           The name of the gift code
+     * @param role           The gifted role
+     * @param maxUses        The maximum number uses of the code
+     * @param codeExpiration A date when the code should expire
+     * @param giftDuration   How long the gifted role should last in milliseconds
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<GiftCodeCreationSchema>> createGiftCode(@NotNull String name, @NotNull String role, int maxUses, @Nullable Date codeExpiration, @Nullable Long giftDuration) {
         Objects.requireNonNull(name);
         Objects.requireNonNull(role);
-        Objects.requireNonNull(consumer);
         Map<String, Object> body = new HashMap<>();
         body.put("name", name);
         body.put("role", role);
@@ -713,19 +1205,15 @@ public class ApiHandler<T> {
             body.put("gift_duration", giftDuration);
         }
 
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.giftCodes(),
-                body,
-                GiftCodeCreationSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.giftCodes(),
+                        body,
+                        GiftCodeCreationSchema.class
+                )
+        );
     }
 
     /**
@@ -735,23 +1223,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void redeemGiftCode(@NotNull String code, @NotNull Consumer<ApiResponse<GiftCodeRedeemSchema>> consumer) {
-        Objects.requireNonNull(code);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.redeemGiftCode(code),
-                emptyBody,
-                GiftCodeRedeemSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renewSelf((info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData(), null))
-            );
-        });
+        this.redeemGiftCode(code).thenAccept(consumer);
+    }
+
+    /**
+     * A request to redeem a gift code
+     *
+     * @param code     The gift code to redeem
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<GiftCodeRedeemSchema>> redeemGiftCode(@NotNull String code) {
+        Objects.requireNonNull(code);
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.redeemGiftCode(code),
+                        emptyBody,
+                        GiftCodeRedeemSchema.class
+                ),
+                this.api.getClientUUID()
+        );
     }
 
     /**
@@ -761,21 +1255,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void deleteGiftCode(@NotNull String code, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(code);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "DELETE",
-                Routes.giftCode(code),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.deleteGiftCode(code).thenAccept(consumer);
+    }
+
+    /**
+     * A request to delete a gift code
+     *
+     * @param code     The gift code to delete
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> deleteGiftCode(@NotNull String code) {
+        Objects.requireNonNull(code);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "DELETE",
+                        Routes.giftCode(code),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -785,21 +1287,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void referPlayer(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.referPlayer(uuid),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.referPlayer(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to mark a specific uuid as the inviter of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param uuid     The uuid you want to mark as the inviter
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> referPlayer(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.referPlayer(uuid),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -810,40 +1320,63 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void reportPlayer(@NotNull UUID uuid, @NotNull String reason, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.reportPlayer(uuid, reason).thenAccept(consumer);
+    }
+
+    /**
+     * A request to report a specific uuid
+     *
+     * @param uuid     The uuid you want to report
+     * @param reason   The reason why you want to report the uuid
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> reportPlayer(@NotNull UUID uuid, @NotNull String reason) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(reason);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.playerReports(uuid),
+                        Map.of("reason", reason),
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
+    }
+
+    /**
+     * A request to get all reports of a specific uuid
+     *
+     * @param uuid     The uuid you want to get the reports of
+     * @param consumer The action to be executed on response.
+     */
+    public void getReports(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<List<PlayerReport>>> consumer) {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.playerReports(uuid),
-                Map.of("reason", reason),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.getReports(uuid).thenAccept(consumer);
     }
 
-    public void getReports(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<List<PlayerReport>>> consumer) {
+    /**
+     * A request to get all reports of a specific uuid
+     *
+     * @param uuid     The uuid you want to get the reports of
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<PlayerReport>>> getReports(@NotNull UUID uuid) {
         Objects.requireNonNull(uuid);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.playerReports(uuid),
-                emptyBody,
-                PlayerReport[].class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, Arrays.asList(response.getData()), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.playerReports(uuid),
+                        emptyBody,
+                        PlayerReport[].class
+                ),
+                (data) -> Arrays.asList(data)
+        );
     }
 
     /**
@@ -854,22 +1387,30 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getBan(@NotNull UUID uuid, @NotNull String id, @NotNull Consumer<ApiResponse<BanInfo>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.getBan(uuid, id).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get a specific ban of a specific uuid
+     *
+     * @param uuid     The uuid you want to get the ban of
+     * @param id       The id of the ban you want to get
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<BanInfo>> getBan(@NotNull UUID uuid, @NotNull String id) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(id);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.ban(uuid, id),
-                emptyBody,
-                BanInfo.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.ban(uuid, id),
+                        emptyBody,
+                        BanInfo.class
+                )
+        );
     }
 
     /**
@@ -879,21 +1420,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getBans(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<List<BanInfo>>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.bans(uuid),
-                emptyBody,
-                BanInfo[].class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, Arrays.asList(response.getData()), null));
-        });
+        this.getBans(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get a list of all bans of a specific uuid
+     *
+     * @param uuid     The uuid you want to get the bans of
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<BanInfo>>> getBans(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.bans(uuid),
+                        emptyBody,
+                        BanInfo[].class
+                ),
+                (data) -> Arrays.asList(data)
+        );
     }
 
     /**
@@ -907,6 +1456,18 @@ public class ApiHandler<T> {
         this.banPlayer(uuid, reason, null, null, consumer);
     }
 
+    /**
+     * A request to ban a specific uuid
+     *
+     * @param uuid     The uuid you want to ban
+     * @param reason   The reason for the ban
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> banPlayer(@NotNull UUID uuid, @NotNull String reason) {
+        return this.banPlayer(uuid, reason, (Boolean) null, (Long) null);
+    }
+
     /**
      * A request to ban a specific uuid
      *
@@ -919,6 +1480,19 @@ public class ApiHandler<T> {
         this.banPlayer(uuid, reason, appealable, null, consumer);
     }
 
+    /**
+     * A request to ban a specific uuid
+     *
+     * @param uuid       The uuid you want to ban
+     * @param reason     The reason for the ban
+     * @param appealable If the user should be able to appeal the ban
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> banPlayer(@NotNull UUID uuid, @NotNull String reason, boolean appealable) {
+        return this.banPlayer(uuid, reason, appealable, (Long) null);
+    }
+
     /**
      * A request to ban a specific uuid
      *
@@ -931,6 +1505,19 @@ public class ApiHandler<T> {
         this.banPlayer(uuid, reason, null, duration, consumer);
     }
 
+    /**
+     * A request to ban a specific uuid
+     *
+     * @param uuid     The uuid you want to ban
+     * @param reason   The reason for the ban
+     * @param duration The duration of the ban in milliseconds
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> banPlayer(@NotNull UUID uuid, @NotNull String reason, long duration) {
+        return this.banPlayer(uuid, reason, (Boolean) null, duration);
+    }
+
     /**
      * A request to ban a specific uuid
      *
@@ -941,29 +1528,39 @@ public class ApiHandler<T> {
      * @param consumer   The action to be executed on response.
      */
     public void banPlayer(@NotNull UUID uuid, @NotNull String reason, @Nullable Boolean appealable, @Nullable Long duration, Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.banPlayer(uuid, reason, appealable, duration).thenAccept(consumer);
+    }
+
+    /**
+     * A request to ban a specific uuid
+     *
+     * @param uuid       The uuid you want to ban
+     * @param reason     The reason for the ban
+     * @param appealable If the user should be able to appeal the ban
+     * @param duration   The duration of the ban in milliseconds
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> banPlayer(@NotNull UUID uuid, @NotNull String reason, @Nullable Boolean appealable, @Nullable Long duration) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(reason);
-        Objects.requireNonNull(consumer);
         HashMap<String, Object> body = new HashMap<>();
         body.put("reason", reason);
         body.put("appealable", appealable);
         body.put("duration", duration);
 
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.bans(uuid),
-                body,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.bans(uuid),
+                        body,
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -973,23 +1570,30 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void unbanPlayer(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "DELETE",
-                Routes.bans(uuid),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        this.unbanPlayer(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to unban a specific uuid
+     *
+     * @param uuid     The uuid you want to unban
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> unbanPlayer(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid);
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "DELETE",
+                        Routes.bans(uuid),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1001,24 +1605,33 @@ public class ApiHandler<T> {
      * @param consumer   The action to be executed on response.
      */
     public void editBan(@NotNull UUID uuid, @NotNull String reason, boolean appealable, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.editBan(uuid, reason, appealable).thenAccept(consumer);
+    }
+
+    /**
+     * A request to edit the ban of a specific uuid
+     *
+     * @param uuid       The uuid you want to edit the ban of
+     * @param reason     The new reason for the ban
+     * @param appealable If the ban should be appealable or not
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> editBan(@NotNull UUID uuid, @NotNull String reason, boolean appealable) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(reason);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "PATCH",
-                Routes.bans(uuid),
-                Map.of("reason", reason, "appealable", appealable),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renew(uuid, (info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "PATCH",
+                        Routes.bans(uuid),
+                        Map.of("reason", reason, "appealable", appealable),
+                        MessageSchema.class
+                ),
+                uuid,
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1028,21 +1641,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void appealBan(@NotNull String reason, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(reason);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.appealBan(this.api.getClientUUID()),
-                Map.of("reason", reason),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.appealBan(reason).thenAccept(consumer);
+    }
+
+    /**
+     * A request to appeal the ban of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param reason   The reason why {@link GlobalTagsAPI#getClientUUID()} should be unbanned
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> appealBan(@NotNull String reason) {
+        Objects.requireNonNull(reason);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.appealBan(this.api.getClientUUID()),
+                        Map.of("reason", reason),
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1052,19 +1673,26 @@ public class ApiHandler<T> {
      */
     public void linkDiscord(@NotNull Consumer<ApiResponse<String>> consumer) {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.connection(this.api.getClientUUID(), ConnectionType.DISCORD),
-                emptyBody,
-                VerificationCodeSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().code, null));
-        });
+        this.linkDiscord().thenAccept(consumer);
+    }
+
+    /**
+     * A request to get the discord linking code of {@link GlobalTagsAPI#getClientUUID()}. Implementation Note: Please don't show the code; Only copy it to the clipboard
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> linkDiscord() {
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.connection(this.api.getClientUUID(), ConnectionType.DISCORD),
+                        emptyBody,
+                        VerificationCodeSchema.class
+                ),
+                (data) -> data.code
+        );
     }
 
     /**
@@ -1074,21 +1702,27 @@ public class ApiHandler<T> {
      */
     public void unlinkDiscord(@NotNull Consumer<ApiResponse<String>> consumer) {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "DELETE",
-                Routes.connection(this.api.getClientUUID(), ConnectionType.DISCORD),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            this.api.getCache().renewSelf((info) ->
-                    consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null))
-            );
-        });
+        this.unlinkDiscord().thenAccept(consumer);
+    }
+
+    /**
+     * A request to unlink the discord account of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> unlinkDiscord() {
+        return this.sendAndRenew(
+                new ApiRequest<>(
+                        this.api,
+                        "DELETE",
+                        Routes.connection(this.api.getClientUUID(), ConnectionType.DISCORD),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                this.api.getClientUUID(),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1098,21 +1732,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void linkEmail(@NotNull String email, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(email);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.connection(this.api.getClientUUID(), ConnectionType.EMAIL),
-                Map.of("email", email),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.linkEmail(email).thenAccept(consumer);
+    }
+
+    /**
+     * A request to send an email verification to of {@link GlobalTagsAPI#getClientUUID()}.
+     *
+     * @param email    The email which should be linked
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> linkEmail(@NotNull String email) {
+        Objects.requireNonNull(email);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.connection(this.api.getClientUUID(), ConnectionType.EMAIL),
+                        Map.of("email", email),
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1122,19 +1764,26 @@ public class ApiHandler<T> {
      */
     public void unlinkEmail(@NotNull Consumer<ApiResponse<String>> consumer) {
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "DELETE",
-                Routes.connection(this.api.getClientUUID(), ConnectionType.EMAIL),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.unlinkEmail().thenAccept(consumer);
+    }
+
+    /**
+     * A request to unlink the email address of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> unlinkEmail() {
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "DELETE",
+                        Routes.connection(this.api.getClientUUID(), ConnectionType.EMAIL),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1144,21 +1793,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void verifyEmail(@NotNull String code, @NotNull Consumer<ApiResponse<String>> consumer) {
-        Objects.requireNonNull(code);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.verifyEmail(this.api.getClientUUID(), code),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        this.verifyEmail(code).thenAccept(consumer);
+    }
+
+    /**
+     * A request to verify the email with the received verification code.
+     *
+     * @param code     The verification code which was received via email
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> verifyEmail(@NotNull String code) {
+        Objects.requireNonNull(code);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.verifyEmail(this.api.getClientUUID(), code),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1171,6 +1828,17 @@ public class ApiHandler<T> {
         this.getNotes(this.api.getClientUUID(), consumer);
     }
 
+    /**
+     * A request to get all notes of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<PlayerNote>>> getNotes() {
+        Objects.requireNonNull(this.api.getClientUUID());
+        return this.getNotes(this.api.getClientUUID());
+    }
+
     /**
      * A request to get all notes of a specific uuid
      *
@@ -1178,21 +1846,29 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getNotes(@NotNull UUID uuid, @NotNull Consumer<ApiResponse<List<PlayerNote>>> consumer) {
-        Objects.requireNonNull(uuid);
         Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.notes(uuid),
-                emptyBody,
-                PlayerNote[].class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, Arrays.asList(response.getData()), null));
-        });
+        this.getNotes(uuid).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get all notes of a specific uuid
+     *
+     * @param uuid     The uuid of the player
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<List<PlayerNote>>> getNotes(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid);
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.notes(uuid),
+                        emptyBody,
+                        PlayerNote[].class
+                ),
+                (data) -> Arrays.asList(data)
+        );
     }
 
     /**
@@ -1206,6 +1882,18 @@ public class ApiHandler<T> {
         this.createNote(this.api.getClientUUID(), note, consumer);
     }
 
+    /**
+     * A request to create a note for {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param note     The note which should be created
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> createNote(@NotNull String note) {
+        Objects.requireNonNull(this.api.getClientUUID());
+        return this.createNote(this.api.getClientUUID(), note);
+    }
+
     /**
      * A request to create a note for a specific uuid
      *
@@ -1214,22 +1902,31 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void createNote(@NotNull UUID uuid, @NotNull String note, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.createNote(uuid, note).thenAccept(consumer);
+    }
+
+    /**
+     * A request to create a note for a specific uuid
+     *
+     * @param uuid     The uuid of the player
+     * @param note     The note which should be created
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> createNote(@NotNull UUID uuid, @NotNull String note) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(note);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "POST",
-                Routes.notes(uuid),
-                Map.of("note", note),
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "POST",
+                        Routes.notes(uuid),
+                        Map.of("note", note),
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
     }
 
     /**
@@ -1243,6 +1940,18 @@ public class ApiHandler<T> {
         this.getNote(this.api.getClientUUID(), noteId, consumer);
     }
 
+    /**
+     * A request to get a specific note of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param noteId   The ID of the note to get
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<PlayerNote>> getNote(String noteId) {
+        Objects.requireNonNull(this.api.getClientUUID());
+        return this.getNote(this.api.getClientUUID(), noteId);
+    }
+
     /**
      * A request to get a specific note of {@link GlobalTagsAPI#getClientUUID()}
      *
@@ -1251,22 +1960,30 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void getNote(@NotNull UUID uuid, @NotNull String noteId, @NotNull Consumer<ApiResponse<PlayerNote>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.getNote(uuid, noteId).thenAccept(consumer);
+    }
+
+    /**
+     * A request to get a specific note of {@link GlobalTagsAPI#getClientUUID()}
+     *
+     * @param uuid     The uuid of the player
+     * @param noteId   The ID of the note to get
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<PlayerNote>> getNote(@NotNull UUID uuid, @NotNull String noteId) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(noteId);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "GET",
-                Routes.note(uuid, noteId),
-                emptyBody,
-                PlayerNote.class
-        ).sendRequestAsync((response) -> {
-            if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
-            }
-            consumer.accept(new ApiResponse<>(true, response.getData(), null));
-        });
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "GET",
+                        Routes.note(uuid, noteId),
+                        emptyBody,
+                        PlayerNote.class
+                )
+        );
     }
 
     /**
@@ -1280,6 +1997,18 @@ public class ApiHandler<T> {
         this.deleteNote(this.api.getClientUUID(), noteId, consumer);
     }
 
+    /**
+     * Deletes a note of {@link GlobalTagsAPI#getClientUUID()}.
+     *
+     * @param noteId   The ID of the note to delete.
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> deleteNote(@NotNull String noteId) {
+        Objects.requireNonNull(this.api.getClientUUID());
+        return this.deleteNote(this.api.getClientUUID(), noteId);
+    }
+
     /**
      * Deletes a note of a specific uuid.
      *
@@ -1288,21 +2017,108 @@ public class ApiHandler<T> {
      * @param consumer The action to be executed on response.
      */
     public void deleteNote(@NotNull UUID uuid, @NotNull String noteId, @NotNull Consumer<ApiResponse<String>> consumer) {
+        Objects.requireNonNull(consumer);
+        this.deleteNote(uuid, noteId).thenAccept(consumer);
+    }
+
+    /**
+     * Deletes a note of a specific uuid.
+     *
+     * @param uuid     The UUID of the player whose note you want to delete.
+     * @param noteId   The ID of the note to delete.
+     * @return A future which is completed with the response.
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<String>> deleteNote(@NotNull UUID uuid, @NotNull String noteId) {
         Objects.requireNonNull(uuid);
         Objects.requireNonNull(noteId);
-        Objects.requireNonNull(consumer);
-        new ApiRequest<>(
-                this.api,
-                "DELETE",
-                Routes.note(uuid, noteId),
-                emptyBody,
-                MessageSchema.class
-        ).sendRequestAsync((response) -> {
+        return this.send(
+                new ApiRequest<>(
+                        this.api,
+                        "DELETE",
+                        Routes.note(uuid, noteId),
+                        emptyBody,
+                        MessageSchema.class
+                ),
+                (data) -> data.getMessage()
+        );
+    }
+
+    /**
+     * Sends a request and hands out its data as is
+     *
+     * @param request The request to send
+     * @param <R>     The response type
+     * @return A future which is completed with the response
+     */
+    @NotNull
+    private <R> CompletableFuture<ApiResponse<R>> send(@NotNull ApiRequest<R> request) {
+        return this.send(request, (data) -> data);
+    }
+
+    /**
+     * Sends a request and maps the data of a successful response. Cancelling the returned future also cancels the
+     * underlying HTTP exchange.
+     *
+     * @param request The request to send
+     * @param mapper  The function which maps the data of a successful response
+     * @param <S>     The type of the raw response
+     * @param <R>     The type of the mapped response
+     * @return A future which is completed with the mapped response
+     */
+    @NotNull
+    private <S, R> CompletableFuture<ApiResponse<R>> send(@NotNull ApiRequest<S> request, @NotNull Function<S, R> mapper) {
+        CompletableFuture<ApiResponse<S>> future = request.sendRequest();
+        return Futures.propagateCancellation(future.thenApply((response) -> {
             if (!response.isSuccessful()) {
-                consumer.accept(new ApiResponse<>(false, null, response.getError()));
-                return;
+                return new ApiResponse<R>(false, null, response.getError(), response.getStatusCode());
             }
-            consumer.accept(new ApiResponse<>(true, response.getData().getMessage(), null));
-        });
+            return new ApiResponse<>(
+                    true,
+                    response.isNotModified() ? null : mapper.apply(response.getData()),
+                    null,
+                    response.getStatusCode(),
+                    response.getValidator(),
+                    response.getBodySize()
+            );
+        }).exceptionally((throwable) ->
+                new ApiResponse<>(false, null, Futures.unwrap(throwable).getLocalizedMessage())
+        ), future);
+    }
+
+    /**
+     * Sends a request which changes the data of a player and hands out its data as is. On success, the player is
+     * renewed in the {@link PlayerInfo.Cache} before the returned future is completed.
+     *
+     * @param request The request to send
+     * @param uuid    The uuid of the player which is changed by the request
+     * @param <R>     The response type
+     * @return A future which is completed with the response
+     */
+    @NotNull
+    private <R> CompletableFuture<ApiResponse<R>> sendAndRenew(@NotNull ApiRequest<R> request, UUID uuid) {
+        return this.sendAndRenew(request, uuid, (data) -> data);
+    }
+
+    /**
+     * Sends a request which changes the data of a player. On success, the player is renewed in the
+     * {@link PlayerInfo.Cache} before the returned future is completed.
+     *
+     * @param request The request to send
+     * @param uuid    The uuid of the player which is changed by the request
+     * @param mapper  The function which maps the data of a successful response
+     * @param <S>     The type of the raw response
+     * @param <R>     The type of the mapped response
+     * @return A future which is completed with the mapped response
+     */
+    @NotNull
+    private <S, R> CompletableFuture<ApiResponse<R>> sendAndRenew(@NotNull ApiRequest<S> request, UUID uuid, @NotNull Function<S, R> mapper) {
+        CompletableFuture<ApiResponse<R>> future = this.send(request, mapper);
+        return Futures.propagateCancellation(future.thenCompose((response) -> {
+            if (!response.isSuccessful()) return CompletableFuture.completedFuture(response);
+            CompletableFuture<ApiResponse<R>> renewed = new CompletableFuture<>();
+            this.api.getCache().renew(uuid, (info) -> renewed.complete(response));
+            return renewed;
+        }), future);
     }
 }
@@ -2,21 +2,37 @@ package com.rappytv.globaltags.wrapper.http;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
 import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
 import com.rappytv.globaltags.wrapper.enums.GlobalPermission;
 import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
 import com.rappytv.globaltags.wrapper.http.schemas.ErrorSchema;
 import com.rappytv.globaltags.wrapper.model.adapters.*;
+import com.rappytv.globaltags.wrapper.util.CircuitBreaker;
+import com.rappytv.globaltags.wrapper.util.Futures;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
@@ -26,8 +42,10 @@ import java.util.function.Consumer;
  */
 public class ApiRequest<T> {
 
-    private static final HttpClient client = HttpClient.newHttpClient();
-    private static final Gson gson = new GsonBuilder()
+    /**
+     * Parses all requests and responses, package-private so benchmarks measure the same configuration
+     */
+    static final Gson gson = new GsonBuilder()
             .registerTypeAdapter(Date.class, new DateTypeAdapter())
             .registerTypeAdapter(GlobalIcon.class, new GlobalIconTypeAdapter())
             .registerTypeAdapter(GlobalPermission.class, new GlobalPermissionTypeAdapter())
@@ -41,6 +59,7 @@ public class ApiRequest<T> {
     private final HttpRequest.BodyPublisher body;
     private final String contentType;
     private final Class<T> responseType;
+    private Validator validator;
 
     /**
      * Builds a new request without data.
@@ -95,12 +114,38 @@ public class ApiRequest<T> {
         this.responseType = responseType;
     }
 
+    /**
+     * Makes this request conditional. If the data didn't change since the validator was received, the API answers
+     * with an empty {@link ApiResponse#isNotModified() not modified} response instead of the full data.
+     *
+     * @param validator The validator of a previous response of the same route, or null to send a plain request
+     * @return This request
+     */
+    @NotNull
+    public ApiRequest<T> setValidator(@Nullable Validator validator) {
+        this.validator = validator;
+        return this;
+    }
+
     /**
      * Send the request.
      *
      * @param consumer A consumer which gets called when the API responds
      */
     public void sendRequestAsync(Consumer<@NotNull ApiResponse<T>> consumer) {
+        this.sendRequest().thenAccept(consumer);
+    }
+
+    /**
+     * Send the request. The returned future is never completed exceptionally, failures are reported as an
+     * unsuccessful {@link ApiResponse}. Cancelling the future also cancels the underlying HTTP exchange. Failed
+     * requests are retried according to {@link Routes#getRetryPolicy(String, String)}.
+     *
+     * @return A future which is completed when the API responds
+     */
+    @NotNull
+    public CompletableFuture<ApiResponse<T>> sendRequest() {
+        HttpRequest request;
         try {
             HttpRequest.Builder builder = this.getBuilder()
                     .uri(new URI(this.api.getUrls().getApiBase() + this.path))
@@ -109,38 +154,223 @@ public class ApiRequest<T> {
             if(this.contentType != null) {
                 builder.header("Content-Type", this.contentType);
             }
+            if(this.validator != null) {
+                this.validator.apply(builder);
+            }
+            request = builder.build();
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(new ApiResponse<>(false, null, e.getLocalizedMessage()));
+        }
+
+        CompletableFuture<ApiResponse<T>> result = new CompletableFuture<>();
+        this.send(request, Routes.getRetryPolicy(this.method, this.path), 0, result);
+        return result;
+    }
 
-            client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString()).thenAccept(response -> {
-                boolean success = response.statusCode() >= 200 && response.statusCode() < 300;
-                if(!success) {
-                    ErrorSchema body = gson.fromJson(response.body(), ErrorSchema.class);
-                    consumer.accept(new ApiResponse<>(false, null, body.error));
+    /**
+     * Send a single attempt of the request. Failed attempts are retried as long as the retry policy and the retry
+     * budget of the API instance allow it.
+     *
+     * @param request The request
+     * @param policy  The retry policy of the request
+     * @param retry   The number of retries which were already sent
+     * @param result  The future which is completed with the final response
+     */
+    private void send(HttpRequest request, RetryPolicy policy, int retry, CompletableFuture<ApiResponse<T>> result) {
+        CompletableFuture<Void> permit = this.api.getRateLimiter().acquire();
+        Futures.propagateCancellation(result, permit);
+        permit.whenComplete((granted, failure) -> {
+            if (result.isDone()) return;
+            if (failure != null) {
+                result.complete(new ApiResponse<>(false, null, Futures.unwrap(failure).getLocalizedMessage()));
+                return;
+            }
+            CircuitBreaker breaker = this.api.getCircuitBreaker();
+            if (!breaker.tryAcquire()) {
+                result.complete(new ApiResponse<>(false, null, "The API is unavailable, the circuit breaker is open"));
+                return;
+            }
+            CompletableFuture<HttpResponse<InputStream>> exchange = this.api.getHttpClient().sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+            Futures.propagateCancellation(result, exchange);
+            exchange.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    Throwable cause = Futures.unwrap(throwable);
+                    if (cause instanceof IOException) breaker.recordFailure();
+                    if (cause instanceof IOException && this.retry(request, policy, retry, result)) return;
+                    result.complete(new ApiResponse<>(false, null, cause.getLocalizedMessage()));
                     return;
                 }
-                T parsedBody = gson.fromJson(response.body(), this.responseType);
-                consumer.accept(new ApiResponse<>(
-                        true,
-                        parsedBody,
-                        null
-                ));
-            }).exceptionally(throwable -> {
-                consumer.accept(new ApiResponse<>(false, null, throwable.getLocalizedMessage()));
-                return null;
+                if (response.statusCode() >= 500) {
+                    breaker.recordFailure();
+                } else {
+                    breaker.recordSuccess();
+                }
+                if (response.statusCode() == 429) {
+                    this.api.getRateLimiter().pause(getRetryAfter(response, this.api.getHttpOptions().getDefaultRetryAfter()));
+                }
+                // Reading the body blocks until it is received, which must not happen on a thread of the http client
+                try {
+                    this.api.getWorkerExecutor().execute(() -> this.complete(request, policy, retry, result, response));
+                } catch (RejectedExecutionException e) {
+                    try {
+                        response.body().close();
+                    } catch (IOException ignored) {
+                        // The body is discarded either way
+                    }
+                    result.complete(new ApiResponse<>(false, null, "The API instance is closed", response.statusCode()));
+                }
             });
+        });
+    }
+
+    /**
+     * Complete a request with a received response, or retry it if the retry policy allows it.
+     *
+     * @param request  The request
+     * @param policy   The retry policy of the request
+     * @param retry    The number of retries which were already sent
+     * @param result   The future which is completed with the final response
+     * @param response The received response
+     */
+    private void complete(HttpRequest request, RetryPolicy policy, int retry, CompletableFuture<ApiResponse<T>> result, HttpResponse<InputStream> response) {
+        try (InputStream stream = response.body()) {
+            if (policy.isRetryable(response.statusCode()) && this.retry(request, policy, retry, result)) return;
+            ApiResponse<T> parsed = this.parse(response, stream);
+            if (retry > 0 && parsed.isSuccessful()) this.api.getRetryBudget().recordRecovery();
+            result.complete(parsed);
         } catch (Exception e) {
-            consumer.accept(new ApiResponse<>(false, null, e.getLocalizedMessage()));
+            result.complete(new ApiResponse<>(false, null, e.getLocalizedMessage(), response.statusCode()));
+        }
+    }
+
+    /**
+     * Schedule a retry of the request if the retry policy and the retry budget allow it.
+     *
+     * @param request The request
+     * @param policy  The retry policy of the request
+     * @param retry   The number of retries which were already sent
+     * @param result  The future which is completed with the final response
+     * @return If a retry was scheduled
+     */
+    private boolean retry(HttpRequest request, RetryPolicy policy, int retry, CompletableFuture<ApiResponse<T>> result) {
+        if (result.isDone() || retry >= policy.getMaxRetries()) return false;
+        if (!this.api.getRetryBudget().tryAcquire()) return false;
+        try {
+            this.api.getScheduler().schedule(
+                    () -> this.send(request, policy, retry + 1, result),
+                    policy.getDelay(retry + 1),
+                    TimeUnit.MILLISECONDS
+            );
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
         }
     }
 
+    /**
+     * Get the time the API asked to wait before sending further requests. Both the delay in seconds and the http date
+     * form of the {@code Retry-After} header are supported.
+     *
+     * @param response        The response
+     * @param defaultRetryAfter The time in milliseconds to wait if the response has no valid header
+     * @return The time to wait in nanoseconds
+     */
+    static long getRetryAfter(HttpResponse<?> response, long defaultRetryAfter) {
+        long fallback = TimeUnit.MILLISECONDS.toNanos(defaultRetryAfter);
+        String header = response.headers().firstValue("Retry-After").orElse(null);
+        if (header == null) return fallback;
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(header.trim()));
+        } catch (NumberFormatException ignored) {
+            // Not a delay in seconds, try the http date form
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(header.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos();
+        } catch (DateTimeParseException | ArithmeticException ignored) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Parse a response of the API straight from the response body, without buffering the whole body first.
+     *
+     * @param response The response
+     * @param stream   The response body
+     * @return The parsed response
+     */
+    @NotNull
+    private ApiResponse<T> parse(HttpResponse<?> response, InputStream stream) {
+        int statusCode = response.statusCode();
+        if(statusCode == 304) {
+            Validator validator = Validator.of(response.headers());
+            return new ApiResponse<>(true, null, null, statusCode, validator != null ? validator : this.validator, 0);
+        }
+        CountingInputStream counter = new CountingInputStream(stream);
+        JsonReader reader = gson.newJsonReader(new InputStreamReader(counter, StandardCharsets.UTF_8));
+        boolean success = statusCode >= 200 && statusCode < 300;
+        if(!success) {
+            String error = null;
+            try {
+                ErrorSchema body = gson.fromJson(reader, ErrorSchema.class);
+                if(body != null) error = body.error;
+            } catch (JsonParseException ignored) {
+                // The body isn't an API error, e.g. an error page of a proxy
+            }
+            if(error == null) error = "HTTP " + statusCode;
+            return new ApiResponse<>(false, null, error, statusCode);
+        }
+        T parsedBody = gson.fromJson(reader, this.responseType);
+        return new ApiResponse<>(
+                true,
+                parsedBody,
+                null,
+                statusCode,
+                Validator.of(response.headers()),
+                counter.count
+        );
+    }
+
     /**
      * Get a builder already containing all needed headers.
      *
      * @return A builder already containing all needed headers
      */
     private HttpRequest.Builder getBuilder() {
-        return HttpRequest.newBuilder()
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .header("Authorization", this.api.getAuthorizationHeader())
                 .header("X-Language", this.api.getLanguageCode())
                 .header("X-Agent", this.api.getAgent().toString());
+        long timeout = this.api.getHttpOptions().getRequestTimeout();
+        if (timeout > 0) {
+            builder.timeout(Duration.ofMillis(timeout));
+        }
+        return builder;
+    }
+
+    /**
+     * Counts the bytes read from a response body
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) this.count++;
+            return read;
+        }
+
+        @Override
+        public int read(byte @NotNull [] bytes, int offset, int length) throws IOException {
+            int read = super.read(bytes, offset, length);
+            if (read > 0) this.count += read;
+            return read;
+        }
     }
 }
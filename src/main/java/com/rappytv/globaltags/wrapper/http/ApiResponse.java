@@ -1,5 +1,7 @@
 package com.rappytv.globaltags.wrapper.http;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * An lightweight class containing response data for requests
  *
@@ -10,6 +12,10 @@ public class ApiResponse<T> {
     private final boolean successful;
     private final T data;
     private final String error;
+    private final int statusCode;
+    private final Validator validator;
+    private final long bodySize;
+    private final boolean skipped;
 
     /**
      * Constructs a new ApiResponse instance
@@ -19,9 +25,54 @@ public class ApiResponse<T> {
      * @param error      The error returned if available
      */
     public ApiResponse(boolean successful, T data, String error) {
+        this(successful, data, error, 0);
+    }
+
+    /**
+     * Constructs a new ApiResponse instance
+     *
+     * @param successful If the request was successful
+     * @param data       The data returned if available
+     * @param error      The error returned if available
+     * @param statusCode The HTTP status code, or 0 if no response was received
+     */
+    public ApiResponse(boolean successful, T data, String error, int statusCode) {
+        this(successful, data, error, statusCode, null, -1);
+    }
+
+    /**
+     * Constructs a new ApiResponse instance
+     *
+     * @param successful If the request was successful
+     * @param data       The data returned if available
+     * @param error      The error returned if available
+     * @param statusCode The HTTP status code, or 0 if no response was received
+     * @param validator  The cache validators of the response if available
+     * @param bodySize   The size of the response body in bytes, or -1 if unknown
+     */
+    public ApiResponse(boolean successful, T data, String error, int statusCode, @Nullable Validator validator, long bodySize) {
+        this(successful, data, error, statusCode, validator, bodySize, false);
+    }
+
+    private ApiResponse(boolean successful, T data, String error, int statusCode, @Nullable Validator validator, long bodySize, boolean skipped) {
         this.successful = successful;
         this.data = data;
         this.error = error;
+        this.statusCode = statusCode;
+        this.validator = validator;
+        this.bodySize = bodySize;
+        this.skipped = skipped;
+    }
+
+    /**
+     * Constructs a successful response for a request which wasn't sent because it would not have changed anything
+     *
+     * @param data The data which is already up to date
+     * @param <T>  The type of the data
+     * @return The response
+     */
+    static <T> ApiResponse<T> skipped(T data) {
+        return new ApiResponse<>(true, data, null, 0, null, -1, true);
     }
 
     /**
@@ -51,12 +102,62 @@ public class ApiResponse<T> {
         return this.error;
     }
 
+    /**
+     * Get the HTTP status code of the response
+     *
+     * @return the status code, or 0 if no response was received
+     */
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    /**
+     * Checks if the API answered a conditional request with 304 Not Modified. Such a response is successful but has
+     * no data, the previously received data is still up to date.
+     *
+     * @return If the data didn't change
+     */
+    public boolean isNotModified() {
+        return this.statusCode == 304;
+    }
+
+    /**
+     * Checks if the request was skipped because it would not have changed anything, for example an icon upload of
+     * the icon the player already has. No request was sent, so {@link #getStatusCode()} is 0.
+     *
+     * @return If the request was skipped
+     */
+    public boolean isSkipped() {
+        return this.skipped;
+    }
+
+    /**
+     * Get the cache validators of the response, which can be sent with a later request of the same data
+     *
+     * @return the validators if available
+     */
+    @Nullable
+    public Validator getValidator() {
+        return this.validator;
+    }
+
+    /**
+     * Get the size of the response body
+     *
+     * @return the size in bytes, or -1 if unknown
+     */
+    public long getBodySize() {
+        return this.bodySize;
+    }
+
     @Override
     public String toString() {
         return "ApiResponse{" +
                 "successful=" + this.successful +
                 ", data=" + this.data +
                 ", error='" + this.error + '\'' +
+                ", statusCode=" + this.statusCode +
+                ", skipped=" + this.skipped +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,737 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
+import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import com.rappytv.globaltags.wrapper.util.Futures;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Downloads icon images and caches them in memory and, if {@link Options#getDirectory()} is set, on disk. Custom icons
+ * are stored by their hash and default icons by their name, so they survive restarts and players who share an icon
+ * share a single cached file. Both caches evict the least recently used icons first. Concurrent requests for the same
+ * icon share a single download. Default and role icons can change on the server, so they are downloaded again in the
+ * background after {@link Options#getRevalidateAfter()}. Disk access runs on the {@link GlobalTagsAPI#getWorkerExecutor()}.
+ */
+public class IconCache {
+
+    private static final Pattern SAFE_KEY = Pattern.compile("[A-Za-z0-9_-]{1,128}");
+
+    private final GlobalTagsAPI<?> api;
+    private final Options options;
+    private final Map<String, CompletableFuture<byte[]>> pending = new ConcurrentHashMap<>();
+    /**
+     * The {@link System#nanoTime()} default and role icons were last downloaded at by cache key
+     */
+    private final Map<String, Long> validated = new ConcurrentHashMap<>();
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder downloads = new LongAdder();
+    private final LongAdder failedDownloads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    /**
+     * Temporary files older than this cache were left behind by a crash
+     */
+    private final long createdAt = System.currentTimeMillis();
+    private long memorySize;
+    private long diskSize;
+    private boolean diskLoaded;
+
+    /**
+     * Creates a new icon cache with the default options
+     *
+     * @param api The {@link GlobalTagsAPI} the icons are downloaded with
+     */
+    public IconCache(@NotNull GlobalTagsAPI<?> api) {
+        this(api, new Options() {});
+    }
+
+    /**
+     * Creates a new icon cache
+     *
+     * @param api     The {@link GlobalTagsAPI} the icons are downloaded with
+     * @param options The cache options
+     */
+    public IconCache(@NotNull GlobalTagsAPI<?> api, @NotNull Options options) {
+        Objects.requireNonNull(api, "api must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+        this.api = api;
+        this.options = options;
+    }
+
+    /**
+     * Gets the image of a default icon
+     *
+     * @param icon The icon
+     * @return A future which is completed with the png image, or with null if the icon has no image or couldn't be
+     * downloaded
+     */
+    @NotNull
+    public CompletableFuture<byte @Nullable []> getDefaultIcon(@NotNull GlobalIcon icon) {
+        if (icon == GlobalIcon.NONE || icon == GlobalIcon.CUSTOM) return CompletableFuture.completedFuture(null);
+        return this.get(
+                "default-" + icon.name().toLowerCase(),
+                this.api.getUrls().getDefaultIcon(icon),
+                false,
+                true
+        );
+    }
+
+    /**
+     * Gets the image of a custom player-uploaded icon
+     *
+     * @param uuid The player's uuid
+     * @param hash The icon's hash
+     * @return A future which is completed with the png image, or with null if the icon couldn't be downloaded
+     */
+    @NotNull
+    public CompletableFuture<byte @Nullable []> getCustomIcon(@NotNull UUID uuid, @NotNull String hash) {
+        return this.get(
+                "custom-" + hash,
+                this.api.getUrls().getCustomIcon(uuid, hash),
+                true,
+                false
+        );
+    }
+
+    /**
+     * Gets the image of a role icon
+     *
+     * @param role The role
+     * @return A future which is completed with the png image, or with null if the icon couldn't be downloaded
+     */
+    @NotNull
+    public CompletableFuture<byte @Nullable []> getRoleIcon(@NotNull String role) {
+        return this.get(
+                "role-" + role.toLowerCase(),
+                this.api.getUrls().getRoleIcon(role),
+                false,
+                true
+        );
+    }
+
+    /**
+     * Fetches every default icon and the icons of the given roles, so they can be displayed right away instead of
+     * popping in once they were downloaded. Icons are fetched with at most
+     * {@link GlobalTagsAPI.HttpOptions#getBatchConcurrency()} requests at the same time. Icons which are already cached
+     * are only read from the cache.
+     *
+     * @param roles The roles whose icons are fetched, for example the roles known to the client
+     * @return A future which is completed with a report of the preload once every icon was fetched
+     */
+    @NotNull
+    public CompletableFuture<PreloadReport> preload(@NotNull Collection<String> roles) {
+        Map<String, Supplier<CompletableFuture<byte[]>>> icons = new LinkedHashMap<>();
+        for (GlobalIcon icon : GlobalIcon.values()) {
+            if (icon == GlobalIcon.NONE || icon == GlobalIcon.CUSTOM) continue;
+            icons.put("default-" + icon.name().toLowerCase(), () -> this.getDefaultIcon(icon));
+        }
+        for (String role : roles) {
+            icons.put("role-" + role.toLowerCase(), () -> this.getRoleIcon(role));
+        }
+        long start = System.nanoTime();
+        return Futures.fanOut(icons.keySet(), Math.max(1, this.api.getHttpOptions().getBatchConcurrency()), (key) -> {
+            long iconStart = System.nanoTime();
+            return icons.get(key).get().thenApply((bytes) -> bytes != null ? System.nanoTime() - iconStart : -1L);
+        }).thenApply((latencies) -> new PreloadReport(System.nanoTime() - start, latencies));
+    }
+
+    /**
+     * Gets the image of the icon a player has selected
+     *
+     * @param info The player
+     * @return A future which is completed with the png image, or with null if the player has no icon or it couldn't be
+     * downloaded
+     */
+    @NotNull
+    public CompletableFuture<byte @Nullable []> getIcon(@NotNull PlayerInfo<?> info) {
+        GlobalIcon icon = info.getGlobalIcon();
+        if (icon == null || icon == GlobalIcon.NONE) return CompletableFuture.completedFuture(null);
+        if (icon == GlobalIcon.CUSTOM) {
+            if (info.getGlobalIconHash() == null) return CompletableFuture.completedFuture(null);
+            return this.getCustomIcon(info.getUUID(), info.getGlobalIconHash());
+        }
+        return this.getDefaultIcon(icon);
+    }
+
+    /**
+     * Gets an icon from the memory cache, the disk cache or the given url, in this order. Concurrent calls for the same
+     * key share a single lookup.
+     *
+     * @param key        The cache key
+     * @param url        The url the icon is downloaded from
+     * @param rateLimit  If the download has to pass the rate limiter, because the url points to the API
+     * @param revalidate If the icon can change on the server and is downloaded again once it is older than
+     *                   {@link Options#getRevalidateAfter()}
+     * @return A future which is completed with the image, or with null if it couldn't be fetched
+     */
+    @NotNull
+    private CompletableFuture<byte[]> get(String key, String url, boolean rateLimit, boolean revalidate) {
+        byte[] memoryBytes;
+        synchronized (this.memory) {
+            memoryBytes = this.memory.get(key);
+        }
+        if (memoryBytes != null) {
+            this.memoryHits.increment();
+            if (revalidate) this.revalidateIfStale(key, url, rateLimit);
+            return CompletableFuture.completedFuture(memoryBytes);
+        }
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = this.pending.putIfAbsent(key, created);
+        if (running != null) {
+            this.coalesced.increment();
+            // Every caller gets its own copy, so one caller cancelling doesn't cancel the lookup for everyone else
+            return running.copy();
+        }
+        CompletableFuture<byte[]> cached = this.options.getDirectory() != null
+                ? this.supplyBlocking(() -> this.readDisk(key))
+                : CompletableFuture.completedFuture(null);
+        cached.thenCompose((bytes) -> {
+                    if (bytes != null) {
+                        this.diskHits.increment();
+                        if (revalidate) this.revalidateIfStale(key, url, rateLimit);
+                        return CompletableFuture.completedFuture(bytes);
+                    }
+                    return this.downloadAndStore(key, url, rateLimit, revalidate);
+                })
+                .whenComplete((bytes, throwable) -> {
+                    if (bytes != null) this.putMemory(key, bytes);
+                    this.pending.remove(key, created);
+                    created.complete(bytes);
+                });
+        return created.copy();
+    }
+
+    /**
+     * Downloads an icon and writes it to the disk cache
+     *
+     * @param key        The cache key
+     * @param url        The url the icon is downloaded from
+     * @param rateLimit  If the download has to pass the rate limiter
+     * @param revalidate If the time of the download is recorded for {@link Options#getRevalidateAfter()}
+     * @return A future which is completed with the image, or with null if the download failed
+     */
+    @NotNull
+    private CompletableFuture<byte[]> downloadAndStore(String key, String url, boolean rateLimit, boolean revalidate) {
+        long start = System.nanoTime();
+        return this.download(url, rateLimit).thenCompose((downloaded) -> {
+            if (downloaded == null) return CompletableFuture.completedFuture(null);
+            if (revalidate) this.validated.put(key, start);
+            if (this.options.getDirectory() == null) return CompletableFuture.completedFuture(downloaded);
+            return this.supplyBlocking(() -> {
+                this.writeDisk(key, downloaded);
+                return downloaded;
+            }).exceptionally((throwable) -> downloaded);
+        });
+    }
+
+    /**
+     * Downloads a default or role icon again in the background if it wasn't downloaded within
+     * {@link Options#getRevalidateAfter()}. Icons read from disk after a restart are downloaded again once, because
+     * their age is unknown. Until the download completes, the cached image keeps being returned.
+     *
+     * @param key       The cache key
+     * @param url       The url the icon is downloaded from
+     * @param rateLimit If the download has to pass the rate limiter
+     */
+    private void revalidateIfStale(String key, String url, boolean rateLimit) {
+        long revalidateAfter = this.options.getRevalidateAfter();
+        if (revalidateAfter < 0) return;
+        Long validated = this.validated.get(key);
+        long now = System.nanoTime();
+        if (validated != null && now - validated < TimeUnit.MILLISECONDS.toNanos(revalidateAfter)) return;
+        if (!this.revalidating.add(key)) return;
+        this.revalidations.increment();
+        // A failed download is not retried before the next interval
+        this.validated.put(key, now);
+        this.downloadAndStore(key, url, rateLimit, true).whenComplete((bytes, throwable) -> {
+            if (bytes != null) this.putMemory(key, bytes);
+            this.revalidating.remove(key);
+        });
+    }
+
+    /**
+     * Runs blocking work on the {@link GlobalTagsAPI#getWorkerExecutor()}
+     *
+     * @param task The work
+     * @param <R>  The result type
+     * @return A future which is completed with the result, or exceptionally if the executor is shut down
+     */
+    @NotNull
+    private <R> CompletableFuture<R> supplyBlocking(Supplier<R> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, this.api.getWorkerExecutor());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Downloads an icon
+     *
+     * @param url       The url of the icon
+     * @param rateLimit If the download has to pass the rate limiter
+     * @return A future which is completed with the image, or with null if the download failed
+     */
+    @NotNull
+    private CompletableFuture<byte[]> download(String url, boolean rateLimit) {
+        HttpRequest request;
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(new URI(url))
+                    .header("X-Agent", this.api.getAgent().toString())
+                    .GET();
+            long timeout = this.api.getHttpOptions().getRequestTimeout();
+            if (timeout > 0) {
+                builder.timeout(Duration.ofMillis(timeout));
+            }
+            request = builder.build();
+        } catch (Exception e) {
+            this.failedDownloads.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> permit = rateLimit
+                ? this.api.getRateLimiter().acquire()
+                : CompletableFuture.completedFuture(null);
+        return permit
+                .thenCompose((ignored) -> {
+                    this.downloads.increment();
+                    return this.api.getHttpClient().sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+                })
+                .handle((response, throwable) -> {
+                    if (throwable == null && response.statusCode() == 200) return response.body();
+                    if (rateLimit && response != null && response.statusCode() == 429) {
+                        this.api.getRateLimiter().pause(ApiRequest.getRetryAfter(response, this.api.getHttpOptions().getDefaultRetryAfter()));
+                    }
+                    this.failedDownloads.increment();
+                    return null;
+                });
+    }
+
+    /**
+     * Adds an icon to the memory cache and evicts the least recently used icons until it fits
+     *
+     * @param key   The cache key
+     * @param bytes The image
+     */
+    private void putMemory(String key, byte[] bytes) {
+        long maximumSize = this.options.getMaximumMemorySize();
+        if (maximumSize < 1 || bytes.length > maximumSize) return;
+        synchronized (this.memory) {
+            byte[] previous = this.memory.put(key, bytes);
+            if (previous != null) this.memorySize -= previous.length;
+            this.memorySize += bytes.length;
+            Iterator<byte[]> iterator = this.memory.values().iterator();
+            while (this.memorySize > maximumSize && iterator.hasNext()) {
+                this.memorySize -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Reads an icon from the disk cache
+     *
+     * @param key The cache key
+     * @return The image, or null if it isn't cached on disk
+     */
+    @Nullable
+    private byte[] readDisk(String key) {
+        Path file = this.getFile(key);
+        if (file == null) return null;
+        synchronized (this.disk) {
+            this.loadDisk();
+            if (this.disk.get(key) == null) return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            // The modification time persists the access order of the disk cache across restarts
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return bytes;
+        } catch (IOException e) {
+            synchronized (this.disk) {
+                Long size = this.disk.remove(key);
+                if (size != null) this.diskSize -= size;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Writes an icon to the disk cache and deletes the least recently used icons until it fits. The icon is written to
+     * a temporary file first and then moved into place, so a crash never leaves a broken icon behind.
+     *
+     * @param key   The cache key
+     * @param bytes The image
+     */
+    private void writeDisk(String key, byte[] bytes) {
+        Path file = this.getFile(key);
+        long maximumSize = this.options.getMaximumDiskSize();
+        if (file == null || (maximumSize > 0 && bytes.length > maximumSize)) return;
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ignored) {
+            return;
+        }
+        List<String> evicted = new ArrayList<>();
+        synchronized (this.disk) {
+            this.loadDisk();
+            Long previous = this.disk.put(key, (long) bytes.length);
+            if (previous != null) this.diskSize -= previous;
+            this.diskSize += bytes.length;
+            Iterator<Map.Entry<String, Long>> iterator = this.disk.entrySet().iterator();
+            while (maximumSize > 0 && this.diskSize > maximumSize && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) continue;
+                this.diskSize -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+        for (String eldest : evicted) {
+            Path evictedFile = this.getFile(eldest);
+            if (evictedFile == null) continue;
+            try {
+                Files.deleteIfExists(evictedFile);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Builds the index of the disk cache on first use. Files are ordered by their modification time, which is updated
+     * whenever an icon is read. Temporary files left behind by a crash are deleted. Must be called while holding the
+     * disk lock.
+     */
+    private void loadDisk() {
+        if (this.diskLoaded) return;
+        this.diskLoaded = true;
+        Path directory = this.options.getDirectory();
+        if (directory == null || !Files.isDirectory(directory)) return;
+        List<Path> files = new ArrayList<>();
+        List<Path> temporary = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.forEach((path) -> {
+                String name = path.getFileName().toString();
+                if (name.endsWith(".png")) files.add(path);
+                else if (name.endsWith(".tmp")) temporary.add(path);
+            });
+        } catch (IOException ignored) {
+            return;
+        }
+        for (Path file : temporary) {
+            try {
+                // Newer files may still be written by this cache
+                if (Files.getLastModifiedTime(file).toMillis() < this.createdAt) Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+        Map<Path, Long> modified = new HashMap<>();
+        for (Path file : files) {
+            try {
+                modified.put(file, Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException ignored) {
+                modified.put(file, 0L);
+            }
+        }
+        files.sort(Comparator.comparing(modified::get));
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            try {
+                long size = Files.size(file);
+                this.disk.put(name.substring(0, name.length() - ".png".length()), size);
+                this.diskSize += size;
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Gets the file of an icon in the disk cache
+     *
+     * @param key The cache key
+     * @return The file, or null if icons aren't cached on disk or the key isn't a safe file name
+     */
+    @Nullable
+    private Path getFile(String key) {
+        Path directory = this.options.getDirectory();
+        if (directory == null || !SAFE_KEY.matcher(key).matches()) return null;
+        return directory.resolve(key + ".png");
+    }
+
+    /**
+     * Removes all icons from the memory cache. The disk cache is kept.
+     */
+    public void clear() {
+        synchronized (this.memory) {
+            this.memory.clear();
+            this.memorySize = 0;
+        }
+    }
+
+    /**
+     * Gets the number of icons which were served from the memory cache
+     *
+     * @return The number of memory cache hits
+     */
+    public long getMemoryHitCount() {
+        return this.memoryHits.sum();
+    }
+
+    /**
+     * Gets the number of icons which were read from the disk cache
+     *
+     * @return The number of disk cache hits
+     */
+    public long getDiskHitCount() {
+        return this.diskHits.sum();
+    }
+
+    /**
+     * Gets the number of icons which were downloaded
+     *
+     * @return The number of downloads
+     */
+    public long getDownloadCount() {
+        return this.downloads.sum();
+    }
+
+    /**
+     * Gets the number of downloads which failed
+     *
+     * @return The number of failed downloads
+     */
+    public long getFailedDownloadCount() {
+        return this.failedDownloads.sum();
+    }
+
+    /**
+     * Gets the number of requests which joined an already running lookup of the same icon
+     *
+     * @return The number of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return this.coalesced.sum();
+    }
+
+    /**
+     * Gets the number of default and role icons which were downloaded again because they were older than
+     * {@link Options#getRevalidateAfter()}
+     *
+     * @return The number of revalidations
+     */
+    public long getRevalidationCount() {
+        return this.revalidations.sum();
+    }
+
+    /**
+     * Gets the number of bytes held by the memory cache
+     *
+     * @return The size of the memory cache
+     */
+    public long getMemorySize() {
+        synchronized (this.memory) {
+            return this.memorySize;
+        }
+    }
+
+    /**
+     * Gets the number of bytes held by the disk cache
+     *
+     * @return The size of the disk cache
+     */
+    public long getDiskSize() {
+        synchronized (this.disk) {
+            this.loadDisk();
+            return this.diskSize;
+        }
+    }
+
+    /**
+     * The result of {@link #preload(Collection)}
+     */
+    public static class PreloadReport {
+
+        private final long totalTime;
+        private final Map<String, Long> latencies;
+
+        /**
+         * Creates a new preload report
+         *
+         * @param totalTime The time in nanoseconds the whole preload took
+         * @param latencies The time in nanoseconds each icon took by cache key, or -1 if the icon couldn't be fetched
+         */
+        public PreloadReport(long totalTime, @NotNull Map<String, Long> latencies) {
+            this.totalTime = totalTime;
+            this.latencies = Collections.unmodifiableMap(new LinkedHashMap<>(latencies));
+        }
+
+        /**
+         * Gets the time the whole preload took
+         *
+         * @return The total time in nanoseconds
+         */
+        public long getTotalTime() {
+            return this.totalTime;
+        }
+
+        /**
+         * Gets the time each icon took from the start of its lookup. Icons which were already cached only took the
+         * time to read them from the cache.
+         *
+         * @return The time in nanoseconds by cache key, or -1 if the icon couldn't be fetched
+         */
+        @NotNull
+        public Map<String, Long> getLatencies() {
+            return this.latencies;
+        }
+
+        /**
+         * Gets the number of icons which were fetched
+         *
+         * @return The number of fetched icons
+         */
+        public int getLoadedCount() {
+            int loaded = 0;
+            for (long latency : this.latencies.values()) {
+                if (latency >= 0) loaded++;
+            }
+            return loaded;
+        }
+
+        /**
+         * Gets the icons which couldn't be fetched
+         *
+         * @return The cache keys of the failed icons
+         */
+        @NotNull
+        public List<String> getFailed() {
+            List<String> failed = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : this.latencies.entrySet()) {
+                if (entry.getValue() < 0) failed.add(entry.getKey());
+            }
+            return failed;
+        }
+
+        /**
+         * Gets the average time an icon which was fetched took
+         *
+         * @return The average latency in nanoseconds
+         */
+        public double getAverageLatency() {
+            long total = 0;
+            int loaded = 0;
+            for (long latency : this.latencies.values()) {
+                if (latency < 0) continue;
+                total += latency;
+                loaded++;
+            }
+            return loaded == 0 ? 0 : (double) total / loaded;
+        }
+
+        /**
+         * Gets the longest time an icon which was fetched took
+         *
+         * @return The maximum latency in nanoseconds
+         */
+        public long getMaximumLatency() {
+            long maximum = 0;
+            for (long latency : this.latencies.values()) {
+                maximum = Math.max(maximum, latency);
+            }
+            return maximum;
+        }
+
+        @Override
+        public String toString() {
+            return "PreloadReport{" +
+                    "totalTime=" + TimeUnit.NANOSECONDS.toMillis(this.totalTime) + "ms" +
+                    ", loaded=" + this.getLoadedCount() +
+                    ", failed=" + this.getFailed() +
+                    ", averageLatency=" + TimeUnit.NANOSECONDS.toMillis((long) this.getAverageLatency()) + "ms" +
+                    ", maximumLatency=" + TimeUnit.NANOSECONDS.toMillis(this.getMaximumLatency()) + "ms" +
+                    '}';
+        }
+    }
+
+    /**
+     * Interface for custom icon cache options.
+     */
+    public interface Options {
+
+        /**
+         * The directory icons are cached in, so they don't have to be downloaded again after a restart. If you don't
+         * want icons to be cached on disk, pass null.
+         *
+         * @return The icon cache directory.
+         */
+        @Nullable
+        default Path getDirectory() {
+            return null;
+        }
+
+        /**
+         * The maximum number of bytes of icons kept in memory. Once it is exceeded, the least recently used icons are
+         * evicted first. If you don't want icons to be cached in memory, pass -1.
+         *
+         * @return The maximum size of the memory cache.
+         */
+        default long getMaximumMemorySize() {
+            // Default is 8 MiB
+            return 8L * 1024 * 1024;
+        }
+
+        /**
+         * The maximum number of bytes of icons kept in {@link #getDirectory()}. Once it is exceeded, the least
+         * recently used icons are deleted first. If you want to disable the size limit, pass -1.
+         *
+         * @return The maximum size of the disk cache.
+         */
+        default long getMaximumDiskSize() {
+            // Default is 64 MiB
+            return 64L * 1024 * 1024;
+        }
+
+        /**
+         * The time in milliseconds after which a default or role icon is downloaded again, because it may have changed
+         * on the server. The cached icon is returned until the download completes. Custom icons are stored by their
+         * hash and never change. If you don't want icons to be downloaded again, pass -1.
+         *
+         * @return The time after which default and role icons are revalidated.
+         */
+        default long getRevalidateAfter() {
+            // Default is 24 hours
+            return 1000 * 60 * 60 * 24;
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Validates and prepares icons before they are uploaded. The real image format is detected from the file contents,
+ * images which are too large are downsized and everything is re-encoded to a compact png. Invalid icons are rejected
+ * right away instead of after a full upload.
+ */
+public class IconPreprocessor {
+
+    private static final String PNG = "image/png";
+
+    private final Options options;
+
+    /**
+     * Creates a new icon preprocessor with the default options
+     */
+    public IconPreprocessor() {
+        this(new Options() {});
+    }
+
+    /**
+     * Creates a new icon preprocessor
+     *
+     * @param options The preprocessor options
+     */
+    public IconPreprocessor(@NotNull Options options) {
+        Objects.requireNonNull(options, "options must not be null");
+        this.options = options;
+    }
+
+    /**
+     * Get the preprocessor options
+     *
+     * @return The options
+     */
+    @NotNull
+    public Options getOptions() {
+        return this.options;
+    }
+
+    /**
+     * Validates an icon and converts it to a png which the API accepts
+     *
+     * @param path The image file
+     * @return The processed icon
+     * @throws InvalidIconException If the file isn't a supported image or doesn't meet the size limits
+     * @throws IOException          If the file could not be read
+     */
+    @NotNull
+    public ProcessedIcon process(@NotNull Path path) throws IOException {
+        Objects.requireNonNull(path);
+        BufferedImage image;
+        String mimeType;
+        int sourceWidth;
+        int sourceHeight;
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) throw new NoSuchFileException(path.toString());
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) throw new InvalidIconException("The icon is not a supported image");
+            ImageReader reader = readers.next();
+            try {
+                mimeType = getMimeType(reader);
+                if (!this.options.getAcceptedMimeTypes().contains(mimeType)) {
+                    throw new InvalidIconException("The icon format " + mimeType + " is not supported");
+                }
+                reader.setInput(input, true, true);
+                sourceWidth = reader.getWidth(0);
+                sourceHeight = reader.getHeight(0);
+                // Checked before the image is decoded, so a huge image can't use up the heap
+                int maximumSourceDimension = this.options.getMaximumSourceDimension();
+                if (maximumSourceDimension > 0 && Math.max(sourceWidth, sourceHeight) > maximumSourceDimension) {
+                    throw new InvalidIconException(String.format(
+                            "The icon is too large (%dx%d), the maximum is %dx%d",
+                            sourceWidth,
+                            sourceHeight,
+                            maximumSourceDimension,
+                            maximumSourceDimension
+                    ));
+                }
+                image = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            if (e instanceof InvalidIconException) throw e;
+            if (!Files.isReadable(path)) throw e;
+            throw new InvalidIconException("The icon could not be decoded: " + e.getMessage());
+        }
+
+        boolean resized = false;
+        int maximumDimension = this.options.getMaximumDimension();
+        if (maximumDimension > 0 && Math.max(sourceWidth, sourceHeight) > maximumDimension) {
+            double scale = (double) maximumDimension / Math.max(sourceWidth, sourceHeight);
+            image = resize(
+                    image,
+                    Math.max(1, (int) Math.round(sourceWidth * scale)),
+                    Math.max(1, (int) Math.round(sourceHeight * scale))
+            );
+            resized = true;
+        }
+
+        byte[] data = encode(image);
+        long maximumFileSize = this.options.getMaximumFileSize();
+        if (!resized && mimeType.equals(PNG)) {
+            // Some pngs are already smaller than the re-encoded image, for example if they were optimized before. Those
+            // are uploaded unchanged and streamed from disk instead of being read into memory.
+            long size = Files.size(path);
+            if (size <= data.length) {
+                if (maximumFileSize > 0 && size > maximumFileSize) throw tooLarge(size, maximumFileSize);
+                return new ProcessedIcon(null, path, this.hash(path), mimeType, sourceWidth, sourceHeight, image.getWidth(), image.getHeight());
+            }
+        }
+        if (maximumFileSize > 0 && data.length > maximumFileSize) throw tooLarge(data.length, maximumFileSize);
+        return new ProcessedIcon(data, this.hash(data), mimeType, sourceWidth, sourceHeight, image.getWidth(), image.getHeight());
+    }
+
+    @NotNull
+    private static InvalidIconException tooLarge(long size, long maximumFileSize) {
+        return new InvalidIconException(String.format(
+                "The icon is too large (%d bytes), the maximum is %d bytes",
+                size,
+                maximumFileSize
+        ));
+    }
+
+    /**
+     * Hashes an icon with {@link Options#getHashAlgorithm()}
+     *
+     * @param data The icon
+     * @return The lowercase hex digest
+     * @throws IOException If the hash algorithm is not available
+     */
+    @NotNull
+    private String hash(byte[] data) throws IOException {
+        MessageDigest digest = this.digest();
+        digest.update(data);
+        return hex(digest);
+    }
+
+    /**
+     * Hashes a file with {@link Options#getHashAlgorithm()} without reading it into memory
+     *
+     * @param path The file
+     * @return The lowercase hex digest
+     * @throws IOException If the file could not be read or the hash algorithm is not available
+     */
+    @NotNull
+    private String hash(Path path) throws IOException {
+        MessageDigest digest = this.digest();
+        byte[] buffer = new byte[8192];
+        try (InputStream input = Files.newInputStream(path)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return hex(digest);
+    }
+
+    @NotNull
+    private MessageDigest digest() throws IOException {
+        try {
+            return MessageDigest.getInstance(this.options.getHashAlgorithm());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("The hash algorithm " + this.options.getHashAlgorithm() + " is not available", e);
+        }
+    }
+
+    @NotNull
+    private static String hex(MessageDigest digest) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Gets the mime type of the format a reader decodes
+     *
+     * @param reader The image reader
+     * @return The mime type, or an {@code image/} type built from the format name if the reader doesn't name one
+     */
+    @NotNull
+    private static String getMimeType(ImageReader reader) throws IOException {
+        String[] mimeTypes = reader.getOriginatingProvider().getMIMETypes();
+        if (mimeTypes != null && mimeTypes.length > 0) return mimeTypes[0].toLowerCase(Locale.ROOT);
+        return "image/" + reader.getFormatName().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Downsizes an image. Large steps are split into halving steps, so the result doesn't look jagged.
+     *
+     * @param image  The image
+     * @param width  The target width
+     * @param height The target height
+     * @return The downsized image
+     */
+    @NotNull
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    /**
+     * Encodes an image as png with the highest compression
+     *
+     * @param image The image
+     * @return The png image
+     * @throws IOException If the image could not be encoded
+     */
+    @NotNull
+    private static byte[] encode(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(PNG);
+        if (!writers.hasNext()) throw new IOException("No png encoder is available");
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                // A quality of 0 selects the strongest deflate level, png is lossless either way
+                param.setCompressionQuality(0f);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * An icon which is ready to be uploaded
+     */
+    public static class ProcessedIcon {
+
+        private final byte[] data;
+        private final Path source;
+        private final String hash;
+        private final String sourceMimeType;
+        private final int sourceWidth;
+        private final int sourceHeight;
+        private final int width;
+        private final int height;
+
+        /**
+         * Creates a new processed icon
+         *
+         * @param data           The png image
+         * @param hash           The hash of the png image
+         * @param sourceMimeType The detected mime type of the source file
+         * @param sourceWidth    The width of the source image
+         * @param sourceHeight   The height of the source image
+         * @param width          The width of the processed image
+         * @param height         The height of the processed image
+         */
+        public ProcessedIcon(byte @NotNull [] data, @NotNull String hash, @NotNull String sourceMimeType, int sourceWidth, int sourceHeight, int width, int height) {
+            this(Objects.requireNonNull(data), null, hash, sourceMimeType, sourceWidth, sourceHeight, width, height);
+        }
+
+        /**
+         * Creates a new processed icon which is either held in memory or uploaded unchanged from its source file
+         *
+         * @param data           The png image, or null if the source file is uploaded unchanged
+         * @param source         The png source file if it is uploaded unchanged, or null
+         * @param hash           The hash of the png image
+         * @param sourceMimeType The detected mime type of the source file
+         * @param sourceWidth    The width of the source image
+         * @param sourceHeight   The height of the source image
+         * @param width          The width of the processed image
+         * @param height         The height of the processed image
+         */
+        public ProcessedIcon(byte @Nullable [] data, @Nullable Path source, @NotNull String hash, @NotNull String sourceMimeType, int sourceWidth, int sourceHeight, int width, int height) {
+            if ((data == null) == (source == null)) throw new IllegalArgumentException("Either data or source must be set");
+            this.data = data;
+            this.source = source;
+            this.hash = hash;
+            this.sourceMimeType = sourceMimeType;
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Gets the png image
+         *
+         * @return The image data, or null if the {@link #getSource() source file} is uploaded unchanged
+         */
+        public byte @Nullable [] getData() {
+            return this.data;
+        }
+
+        /**
+         * Gets the source file, if it already is a png which is uploaded unchanged. Such an icon is streamed from disk
+         * instead of being held in memory.
+         *
+         * @return The source file, or null if the icon was re-encoded
+         */
+        @Nullable
+        public Path getSource() {
+            return this.source;
+        }
+
+        /**
+         * Gets the hash of the png image, see {@link Options#getHashAlgorithm()}
+         *
+         * @return The lowercase hex digest
+         */
+        @NotNull
+        public String getHash() {
+            return this.hash;
+        }
+
+        /**
+         * Gets the mime type of the processed image
+         *
+         * @return Always {@code image/png}
+         */
+        @NotNull
+        public String getMimeType() {
+            return PNG;
+        }
+
+        /**
+         * Gets the mime type which was detected from the contents of the source file
+         *
+         * @return The source mime type
+         */
+        @NotNull
+        public String getSourceMimeType() {
+            return this.sourceMimeType;
+        }
+
+        /**
+         * Gets the width of the source image
+         *
+         * @return The source width
+         */
+        public int getSourceWidth() {
+            return this.sourceWidth;
+        }
+
+        /**
+         * Gets the height of the source image
+         *
+         * @return The source height
+         */
+        public int getSourceHeight() {
+            return this.sourceHeight;
+        }
+
+        /**
+         * Gets the width of the processed image
+         *
+         * @return The width
+         */
+        public int getWidth() {
+            return this.width;
+        }
+
+        /**
+         * Gets the height of the processed image
+         *
+         * @return The height
+         */
+        public int getHeight() {
+            return this.height;
+        }
+
+        /**
+         * Checks if the image was downsized
+         *
+         * @return If the image was downsized
+         */
+        public boolean isResized() {
+            return this.width != this.sourceWidth || this.height != this.sourceHeight;
+        }
+
+        @Override
+        public String toString() {
+            return "ProcessedIcon{" +
+                    "size=" + this.data.length +
+                    ", hash='" + this.hash + '\'' +
+                    ", sourceMimeType='" + this.sourceMimeType + '\'' +
+                    ", source=" + this.sourceWidth + "x" + this.sourceHeight +
+                    ", processed=" + this.width + "x" + this.height +
+                    '}';
+        }
+    }
+
+    /**
+     * Thrown if an icon can't be uploaded because it isn't a supported image or doesn't meet the size limits
+     */
+    public static class InvalidIconException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new exception
+         *
+         * @param message The reason the icon was rejected
+         */
+        public InvalidIconException(@NotNull String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Interface for custom icon preprocessing options.
+     */
+    public interface Options {
+
+        /**
+         * The image formats which are accepted as source, by mime type. Every accepted format is converted to png.
+         *
+         * @return The accepted mime types.
+         */
+        @NotNull
+        default Set<String> getAcceptedMimeTypes() {
+            return Set.of("image/png", "image/jpeg", "image/gif", "image/bmp");
+        }
+
+        /**
+         * The maximum width and height of an uploaded icon in pixels. Larger images are downsized to fit, keeping their
+         * aspect ratio. If you don't want icons to be downsized, pass -1.
+         *
+         * @return The maximum icon dimension.
+         */
+        default int getMaximumDimension() {
+            return 256;
+        }
+
+        /**
+         * The maximum width and height of a source image in pixels. Larger images are rejected before they are
+         * decoded. If you want to disable the limit, pass -1.
+         *
+         * @return The maximum source image dimension.
+         */
+        default int getMaximumSourceDimension() {
+            return 4096;
+        }
+
+        /**
+         * The maximum size of a processed icon in bytes. Larger icons are rejected instead of uploaded. If you want to
+         * disable the limit, pass -1.
+         *
+         * @return The maximum icon file size.
+         */
+        default long getMaximumFileSize() {
+            // Default is 1 MiB
+            return 1024 * 1024;
+        }
+
+        /**
+         * The {@link MessageDigest} algorithm icons are hashed with. It has to match the algorithm the API hashes
+         * uploaded icons with, so an unchanged icon can be recognized by {@link PlayerInfo#getGlobalIconHash()}. If it
+         * doesn't match, unchanged icons are recognized only by the hash the API returned when they were uploaded, see
+         * {@link #getUploadHistoryFile()}.
+         *
+         * @return The hash algorithm.
+         */
+        @NotNull
+        default String getHashAlgorithm() {
+            return "SHA-256";
+        }
+
+        /**
+         * The file the local and the API hash of every uploaded icon are stored in, so
+         * {@link ApiHandler#uploadIconIfChanged(java.util.UUID, Path)} recognizes icons which were uploaded before a
+         * restart. If you don't want the upload history to be stored on disk, pass null.
+         *
+         * @return The upload history file.
+         */
+        @Nullable
+        default Path getUploadHistoryFile() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the local hash and the API hash of the last icon uploaded per player, so an unchanged icon is recognized
+ * even if the API hashes icons differently than {@link IconPreprocessor.Options#getHashAlgorithm()}. If
+ * {@link IconPreprocessor.Options#getUploadHistoryFile()} is set, the history is stored in that file and survives
+ * restarts. The file is read and written on the calling thread, callers run it on the
+ * {@link com.rappytv.globaltags.wrapper.GlobalTagsAPI#getWorkerExecutor()}.
+ */
+class IconUploadHistory {
+
+    private final Path file;
+    private final Map<UUID, Map.Entry<String, String>> uploads = new ConcurrentHashMap<>();
+    private boolean loaded;
+
+    /**
+     * Creates a new upload history
+     *
+     * @param file The file the history is stored in, or null to keep it in memory only
+     */
+    IconUploadHistory(@Nullable Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Checks if an icon was the last one uploaded for a player, and the player still has it
+     *
+     * @param uuid      The uuid of the player
+     * @param localHash The hash of the processed icon
+     * @param apiHash   The hash the API currently reports for the player's icon
+     * @return If the icon is already up to date
+     */
+    boolean isUploaded(@NotNull UUID uuid, @NotNull String localHash, @NotNull String apiHash) {
+        this.load();
+        Map.Entry<String, String> upload = this.uploads.get(uuid);
+        return upload != null && upload.getKey().equals(localHash) && upload.getValue().equals(apiHash);
+    }
+
+    /**
+     * Records an uploaded icon and writes the history to disk
+     *
+     * @param uuid      The uuid of the player
+     * @param localHash The hash of the processed icon
+     * @param apiHash   The hash the API returned for the upload
+     * @throws IOException If the history file could not be written
+     */
+    void record(@NotNull UUID uuid, @NotNull String localHash, @NotNull String apiHash) throws IOException {
+        this.load();
+        this.uploads.put(uuid, Map.entry(localHash, apiHash));
+        this.save();
+    }
+
+    /**
+     * Reads the history file once. A missing or unreadable file starts an empty history, which only costs one
+     * redundant upload per player.
+     */
+    private synchronized void load() {
+        if (this.loaded) return;
+        this.loaded = true;
+        if (this.file == null) return;
+        try {
+            for (String line : Files.readAllLines(this.file, StandardCharsets.UTF_8)) {
+                String[] parts = line.split(" ");
+                if (parts.length != 3) continue;
+                try {
+                    this.uploads.putIfAbsent(UUID.fromString(parts[0]), Map.entry(parts[1], parts[2]));
+                } catch (IllegalArgumentException ignored) {
+                    // Skip broken lines, the rest of the history is still valid
+                }
+            }
+        } catch (NoSuchFileException ignored) {
+            // Nothing was uploaded yet
+        } catch (IOException ignored) {
+            // Start with an empty history
+        }
+    }
+
+    /**
+     * Writes the history to a temporary file and moves it over the history file, so a crash never leaves a
+     * half-written file behind
+     *
+     * @throws IOException If the history file could not be written
+     */
+    private synchronized void save() throws IOException {
+        if (this.file == null) return;
+        List<String> lines = new ArrayList<>(this.uploads.size());
+        this.uploads.forEach((uuid, upload) -> lines.add(uuid + " " + upload.getKey() + " " + upload.getValue()));
+        Path parent = this.file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, this.file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.rappytv.globaltags.wrapper.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Flow;
 
 @SuppressWarnings("unused")
 public class MultipartData {
@@ -47,6 +53,16 @@ public class MultipartData {
             return this;
         }
 
+        public Builder addFile(String name, String fileName, Path path, String mimeType) {
+            this.files.add(new MimedFile(name, fileName, path, mimeType));
+            return this;
+        }
+
+        public Builder addFile(String name, String fileName, byte[] data, String mimeType) {
+            this.files.add(new MimedFile(name, fileName, data, mimeType));
+            return this;
+        }
+
         public Builder addText(String name, String text) {
             this.texts.put(name, text);
             return this;
@@ -56,17 +72,21 @@ public class MultipartData {
             MultipartData mimeMultipartData = new MultipartData();
             mimeMultipartData.boundary = this.boundary;
 
+            // Only the part headers are kept in memory, file contents are streamed from disk while the body is sent
             byte[] newline = "\r\n".getBytes(this.charset);
+            List<Part> parts = new ArrayList<>();
             ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
             for (MimedFile file : this.files) {
                 byteArrayOutputStream.write(("--" + this.boundary).getBytes(this.charset));
                 byteArrayOutputStream.write(newline);
-                byteArrayOutputStream.write(("Content-Disposition: form-data; name=\"" + file.name + "\"; filename=\"" + file.path.getFileName() + "\"").getBytes(this.charset));
+                byteArrayOutputStream.write(("Content-Disposition: form-data; name=\"" + file.name + "\"; filename=\"" + file.fileName + "\"").getBytes(this.charset));
                 byteArrayOutputStream.write(newline);
                 byteArrayOutputStream.write(("Content-Type: " + file.mimeType).getBytes(this.charset));
                 byteArrayOutputStream.write(newline);
                 byteArrayOutputStream.write(newline);
-                byteArrayOutputStream.write(Files.readAllBytes(file.path));
+                parts.add(new Part(byteArrayOutputStream.toByteArray(), null));
+                parts.add(new Part(file.data, file.path));
+                byteArrayOutputStream.reset();
                 byteArrayOutputStream.write(newline);
             }
             for (Map.Entry<String, String> entry : this.texts.entrySet()) {
@@ -79,8 +99,9 @@ public class MultipartData {
                 byteArrayOutputStream.write(newline);
             }
             byteArrayOutputStream.write(("--" + this.boundary + "--").getBytes(this.charset));
+            parts.add(new Part(byteArrayOutputStream.toByteArray(), null));
 
-            mimeMultipartData.bodyPublisher = HttpRequest.BodyPublishers.ofByteArray(byteArrayOutputStream.toByteArray());
+            mimeMultipartData.bodyPublisher = new PartsPublisher(parts);
             return mimeMultipartData;
         }
 
@@ -88,11 +109,27 @@ public class MultipartData {
 
             private final String name;
             private final Path path;
+            private final String fileName;
+            private final byte[] data;
             private final String mimeType;
 
             public MimedFile(String name, Path path, String mimeType) {
+                this(name, path.getFileName().toString(), path, mimeType);
+            }
+
+            public MimedFile(String name, String fileName, Path path, String mimeType) {
                 this.name = name;
                 this.path = path;
+                this.fileName = fileName;
+                this.data = null;
+                this.mimeType = mimeType;
+            }
+
+            public MimedFile(String name, String fileName, byte[] data, String mimeType) {
+                this.name = name;
+                this.path = null;
+                this.fileName = fileName;
+                this.data = data;
                 this.mimeType = mimeType;
             }
 
@@ -104,9 +141,85 @@ public class MultipartData {
                 return this.path;
             }
 
+            public String getFileName() {
+                return this.fileName;
+            }
+
+            public byte[] getData() {
+                return this.data;
+            }
+
             public String getMimeType() {
                 return this.mimeType;
             }
         }
+
+        /**
+         * A part of the body, either bytes held in memory or a file which is read when the body is sent
+         */
+        private static class Part {
+
+            private final byte[] bytes;
+            private final Path path;
+
+            private Part(byte[] bytes, Path path) {
+                this.bytes = bytes;
+                this.path = path;
+            }
+
+            private long length() throws IOException {
+                return this.bytes != null ? this.bytes.length : Files.size(this.path);
+            }
+
+            private InputStream open() throws IOException {
+                return this.bytes != null ? new ByteArrayInputStream(this.bytes) : Files.newInputStream(this.path);
+            }
+        }
+
+        /**
+         * Publishes the parts one after another. Unlike {@link HttpRequest.BodyPublishers#ofInputStream} the content
+         * length is known up front, so the body isn't sent chunked. Every subscription opens the parts again, so the
+         * body can be sent more than once, for example when a request is retried.
+         */
+        private static class PartsPublisher implements HttpRequest.BodyPublisher {
+
+            private final long contentLength;
+            private final HttpRequest.BodyPublisher publisher;
+
+            private PartsPublisher(List<Part> parts) throws IOException {
+                long contentLength = 0;
+                for (Part part : parts) {
+                    contentLength += part.length();
+                }
+                this.contentLength = contentLength;
+                this.publisher = HttpRequest.BodyPublishers.ofInputStream(() -> {
+                    List<InputStream> streams = new ArrayList<>(parts.size());
+                    try {
+                        for (Part part : parts) {
+                            streams.add(part.open());
+                        }
+                    } catch (IOException e) {
+                        for (InputStream stream : streams) {
+                            try {
+                                stream.close();
+                            } catch (IOException ignored) {
+                            }
+                        }
+                        throw new UncheckedIOException(e);
+                    }
+                    return new SequenceInputStream(Collections.enumeration(streams));
+                });
+            }
+
+            @Override
+            public long contentLength() {
+                return this.contentLength;
+            }
+
+            @Override
+            public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+                this.publisher.subscribe(subscriber);
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how often and after which delay a failed request is sent again. Requests are retried after transport
+ * errors and after responses with a status code which indicates a temporary problem (408, 429, 500, 502, 503 and 504).
+ * The delay grows exponentially with every retry, half of it is randomized so clients which failed at the same time
+ * don't retry at the same time. Use {@link Routes#setRetryPolicy(String, String, RetryPolicy)} to configure the policy
+ * of a route.
+ */
+public class RetryPolicy {
+
+    /**
+     * A policy which never retries. This is the default for methods which are not idempotent.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(0, 0, 0);
+    /**
+     * The default policy for idempotent methods (GET and DELETE). Retries up to 3 times, starting at 250ms.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(3, 250, 5000);
+
+    private final int maxRetries;
+    private final long baseDelay;
+    private final long maxDelay;
+
+    /**
+     * Creates a new retry policy
+     *
+     * @param maxRetries The maximum number of times a request is retried
+     * @param baseDelay  The delay before the first retry in milliseconds
+     * @param maxDelay   The maximum delay before a retry in milliseconds
+     */
+    public RetryPolicy(int maxRetries, long baseDelay, long maxDelay) {
+        if (maxRetries < 0) throw new IllegalArgumentException("maxRetries must not be negative");
+        if (baseDelay < 0 || maxDelay < baseDelay) throw new IllegalArgumentException("invalid delays");
+        this.maxRetries = maxRetries;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Get the maximum number of times a request is retried
+     *
+     * @return The maximum number of retries
+     */
+    public int getMaxRetries() {
+        return this.maxRetries;
+    }
+
+    /**
+     * Get the randomized delay before a retry
+     *
+     * @param retry The number of the retry, starting at 1
+     * @return The delay in milliseconds
+     */
+    public long getDelay(int retry) {
+        long delay = Math.min(this.maxDelay, this.baseDelay << Math.min(retry - 1, 30));
+        return delay / 2 + (long) (ThreadLocalRandom.current().nextDouble() * (delay / 2 + 1));
+    }
+
+    /**
+     * Checks if a response with the given status code should be retried
+     *
+     * @param statusCode The status code of the response
+     * @return If the request should be retried
+     */
+    public boolean isRetryable(int statusCode) {
+        switch (statusCode) {
+            case 408:
+            case 429:
+            case 500:
+            case 502:
+            case 503:
+            case 504:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxRetries=" + this.maxRetries +
+                ", baseDelay=" + this.baseDelay +
+                ", maxDelay=" + this.maxDelay +
+                '}';
+    }
+}
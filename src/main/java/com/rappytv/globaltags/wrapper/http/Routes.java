@@ -2,18 +2,59 @@ package com.rappytv.globaltags.wrapper.http;
 
 import com.rappytv.globaltags.wrapper.enums.ConnectionType;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
 
 /**
  * This class contains all routes which the <a href="https://github.com/Global-Tags/API">GlobalTagAPI</a> supports at the moment.
  */
 public class Routes {
 
+    private static final List<RetryRule> retryRules = new CopyOnWriteArrayList<>();
+
     /**
      * Cannot be implemented
      */
     private Routes() {}
 
+    /**
+     * Sets the retry policy of a route. The route is given as a template in which path parameters are written in
+     * braces, for example:
+     * <blockquote><pre>
+     * Routes.setRetryPolicy("GET", "/players/{uuid}", new RetryPolicy(5, 100, 2000));
+     * Routes.setRetryPolicy("POST", "/players/{uuid}/position", RetryPolicy.DEFAULT);
+     * </pre></blockquote>
+     * Only set a policy for a method which is not idempotent if sending the request twice is harmless.
+     *
+     * @param method The http method
+     * @param route  The route template
+     * @param policy The retry policy, or null to restore the default policy
+     */
+    public static void setRetryPolicy(String method, String route, RetryPolicy policy) {
+        String key = method.toUpperCase() + " " + route;
+        retryRules.removeIf((rule) -> rule.key.equals(key));
+        if (policy != null) retryRules.add(0, new RetryRule(key, method.toUpperCase(), route, policy));
+    }
+
+    /**
+     * Gets the retry policy of a request. If no policy was set with {@link #setRetryPolicy(String, String, RetryPolicy)},
+     * GET and DELETE requests use {@link RetryPolicy#DEFAULT} and all other requests aren't retried.
+     *
+     * @param method The http method
+     * @param path   The request path
+     * @return The retry policy
+     */
+    public static RetryPolicy getRetryPolicy(String method, String path) {
+        for (RetryRule rule : retryRules) {
+            if (rule.method.equalsIgnoreCase(method) && rule.pattern.matcher(path).matches()) return rule.policy;
+        }
+        return method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("DELETE")
+                ? RetryPolicy.DEFAULT
+                : RetryPolicy.NONE;
+    }
+
     /**
      * <pre>
      * Route for
@@ -384,4 +425,24 @@ public class Routes {
     public static String redeemGiftCode(String code) {
         return "/gift-codes/" + code + "/redeem";
     }
+
+    private static class RetryRule {
+
+        private final String key;
+        private final String method;
+        private final Pattern pattern;
+        private final RetryPolicy policy;
+
+        private RetryRule(String key, String method, String route, RetryPolicy policy) {
+            String[] parts = route.split("\\{[^}/]*}", -1);
+            StringBuilder regex = new StringBuilder(Pattern.quote(parts[0]));
+            for (int i = 1; i < parts.length; i++) {
+                regex.append("[^/]+").append(Pattern.quote(parts[i]));
+            }
+            this.key = key;
+            this.method = method;
+            this.pattern = Pattern.compile(regex.toString());
+            this.policy = policy;
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+
+/**
+ * The cache validators of a response ({@code ETag} and {@code Last-Modified}). Sending them back with a request lets
+ * the API answer with 304 Not Modified instead of the full response if nothing changed.
+ */
+public class Validator {
+
+    private final String etag;
+    private final String lastModified;
+
+    /**
+     * Creates a new validator
+     *
+     * @param etag         The value of the {@code ETag} header
+     * @param lastModified The value of the {@code Last-Modified} header
+     */
+    public Validator(@Nullable String etag, @Nullable String lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Reads the validators of a response
+     *
+     * @param headers The response headers
+     * @return The validator, or null if the response has none
+     */
+    @Nullable
+    public static Validator of(@NotNull HttpHeaders headers) {
+        String etag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+        if (etag == null && lastModified == null) return null;
+        return new Validator(etag, lastModified);
+    }
+
+    /**
+     * Adds the conditional request headers to a request
+     *
+     * @param builder The request builder
+     */
+    void apply(@NotNull HttpRequest.Builder builder) {
+        if (this.etag != null) builder.header("If-None-Match", this.etag);
+        // An ETag takes precedence, servers ignore If-Modified-Since if If-None-Match is present
+        else if (this.lastModified != null) builder.header("If-Modified-Since", this.lastModified);
+    }
+
+    /**
+     * Gets the value of the {@code ETag} header
+     *
+     * @return The entity tag
+     */
+    @Nullable
+    public String getETag() {
+        return this.etag;
+    }
+
+    /**
+     * Gets the value of the {@code Last-Modified} header
+     *
+     * @return The last modification date
+     */
+    @Nullable
+    public String getLastModified() {
+        return this.lastModified;
+    }
+
+    @Override
+    public String toString() {
+        return "Validator{" +
+                "etag='" + this.etag + '\'' +
+                ", lastModified='" + this.lastModified + '\'' +
+                '}';
+    }
+}
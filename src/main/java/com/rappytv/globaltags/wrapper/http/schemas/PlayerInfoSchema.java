@@ -1,6 +1,7 @@
 package com.rappytv.globaltags.wrapper.http.schemas;
 
 import com.rappytv.globaltags.wrapper.enums.GlobalPermission;
+import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
 import com.rappytv.globaltags.wrapper.model.BanInfo;
 import com.rappytv.globaltags.wrapper.model.PlayerInfo;
 
@@ -9,7 +10,7 @@ import java.util.List;
 public class PlayerInfoSchema {
 
     public String tag;
-    public String position;
+    public GlobalPosition position;
     public PlayerInfo.Icon icon;
     public PlayerInfo.ReferralInfo referrals;
     public String roleIcon;
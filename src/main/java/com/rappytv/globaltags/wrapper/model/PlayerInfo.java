@@ -5,11 +5,24 @@ import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
 import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
 import com.rappytv.globaltags.wrapper.enums.GlobalPermission;
 import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
+import com.rappytv.globaltags.wrapper.http.ApiResponse;
+import com.rappytv.globaltags.wrapper.http.Validator;
+import com.rappytv.globaltags.wrapper.util.Futures;
+import com.rappytv.globaltags.wrapper.util.RateLimiter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Represents player information associated with a UUID, including tags, roles, permissions, and ban info.
@@ -19,23 +32,42 @@ import java.util.function.Consumer;
 @SuppressWarnings("unused")
 public class PlayerInfo<T> {
 
+    /**
+     * Shared role lists and role names. Most players have one of a few role combinations, so they share a single
+     * immutable list instead of holding a copy each.
+     */
+    private static final Map<Object, Object> interned = new ConcurrentHashMap<>();
+    private static final int MAX_INTERNED = 4096;
+    /**
+     * Marks a tag which wasn't translated yet
+     */
+    private static final Object UNTRANSLATED = new Object();
+    /**
+     * Sets the translated tag without a lock, so callers locking on a {@link PlayerInfo} can't block rendering and
+     * every player doesn't need a lock object of its own
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<PlayerInfo, Object> TAG = AtomicReferenceFieldUpdater.newUpdater(PlayerInfo.class, Object.class, "tag");
+
+    private final GlobalTagsAPI<T> api;
     private final GlobalTagsAPI.Urls urls;
     private final UUID uuid;
-    private final T tag;
+    private volatile Object tag = UNTRANSLATED;
     private final String plainTag;
-    private final String position;
+    private final GlobalPosition position;
     private final Icon icon;
+    private final String iconUrl;
     private final ReferralInfo referralInfo;
     private final String roleIcon;
     private final boolean hideRoleIcon;
     private final List<String> roles;
-    private final List<GlobalPermission> permissions;
+    private final Set<GlobalPermission> permissions;
     private final BanInfo banInfo;
 
     /**
      * Build a new PlayerInfo instance
      *
-     * @param api          The {@link GlobalTagsAPI} for the {@link GlobalTagsAPI#translateColorCodes(String)} method
+     * @param api          The {@link GlobalTagsAPI} for the {@link GlobalTagsAPI#getTranslationCache()}
      * @param uuid         The player's {@link UUID}
      * @param tag          The player's plain tag including color codes
      * @param position     The player's global position as a string
@@ -60,20 +92,116 @@ public class PlayerInfo<T> {
             @NotNull List<GlobalPermission> permissions,
             @Nullable BanInfo banInfo
     ) {
+        this(
+                api,
+                uuid,
+                tag,
+                parsePosition(position),
+                icon,
+                referralInfo,
+                roleIcon,
+                hideRoleIcon,
+                roles,
+                permissions,
+                banInfo
+        );
+    }
+
+    /**
+     * Build a new PlayerInfo instance
+     *
+     * @param api          The {@link GlobalTagsAPI} for the {@link GlobalTagsAPI#getTranslationCache()}
+     * @param uuid         The player's {@link UUID}
+     * @param tag          The player's plain tag including color codes
+     * @param position     The player's global position, {@link GlobalPosition#ABOVE} is used if null
+     * @param icon         The player's global icon
+     * @param referralInfo The player's referral info
+     * @param roleIcon     The player's role icon
+     * @param hideRoleIcon If the player's role icon is hidden
+     * @param roles        The player's roles
+     * @param permissions  The player's permissions
+     * @param banInfo      The player's {@link BanInfo}
+     */
+    public PlayerInfo(
+            @NotNull GlobalTagsAPI<T> api,
+            @NotNull UUID uuid,
+            @Nullable String tag,
+            @Nullable GlobalPosition position,
+            @NotNull Icon icon,
+            ReferralInfo referralInfo,
+            @Nullable String roleIcon,
+            boolean hideRoleIcon,
+            @NotNull List<String> roles,
+            @NotNull List<GlobalPermission> permissions,
+            @Nullable BanInfo banInfo
+    ) {
+        this.api = api;
         this.urls = api.getUrls();
         this.uuid = uuid;
-        this.tag = api.translateColorCodes(tag);
         this.plainTag = tag != null ? tag : "";
-        this.position = position;
-        this.icon = icon;
-        this.referralInfo = referralInfo;
-        this.roleIcon = roleIcon;
+        this.position = position != null ? position : GlobalPosition.ABOVE;
+        this.icon = icon.hash == null && icon.type != null ? Icon.of(icon.type) : icon;
+        this.iconUrl = this.computeIconUrl();
+        this.referralInfo = referralInfo != null && referralInfo.isEmpty() ? ReferralInfo.EMPTY : referralInfo;
+        this.roleIcon = intern(roleIcon);
         this.hideRoleIcon = hideRoleIcon;
-        this.roles = roles;
-        this.permissions = permissions;
+        this.roles = internRoles(roles);
+        this.permissions = permissions.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(permissions));
         this.banInfo = banInfo;
     }
 
+    /**
+     * Parses a position string once, instead of on every {@link #getPosition()} call
+     *
+     * @param position The position as a string
+     * @return The position. Defaults to {@link GlobalPosition#ABOVE} if invalid.
+     */
+    private static GlobalPosition parsePosition(String position) {
+        try {
+            return GlobalPosition.valueOf(position.toUpperCase());
+        } catch (Exception ignored) {
+            return GlobalPosition.ABOVE;
+        }
+    }
+
+    /**
+     * Returns a shared instance of a value. Values are only shared until {@link #MAX_INTERNED} values were seen, so
+     * unexpected data can't grow the pool without bounds.
+     *
+     * @param value The value
+     * @param <V>   The value type
+     * @return The shared instance, or the value itself
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V intern(V value) {
+        if (value == null) return null;
+        Object shared = interned.get(value);
+        if (shared != null) return (V) shared;
+        if (interned.size() >= MAX_INTERNED) return value;
+        shared = interned.putIfAbsent(value, value);
+        return shared != null ? (V) shared : value;
+    }
+
+    /**
+     * Returns a shared immutable copy of a role list
+     *
+     * @param roles The roles
+     * @return The shared role list
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> internRoles(List<String> roles) {
+        if (roles.isEmpty()) return Collections.emptyList();
+        Object shared = interned.get(roles);
+        if (shared != null) return (List<String>) shared;
+        String[] names = new String[roles.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = intern(roles.get(i));
+        }
+        return intern(List.of(names));
+    }
+
     /**
      * Gets the player's UUID.
      *
@@ -85,13 +213,21 @@ public class PlayerInfo<T> {
     }
 
     /**
-     * Gets the player's translated tag, including formatting (e.g., color codes).
+     * Gets the player's translated tag, including formatting (e.g., color codes). The tag is translated on the first
+     * call, so players whose tag is never rendered don't pay for the translation.
      *
      * @return The translated tag as a component, or {@code null} if no tag is set.
      */
     @Nullable
+    @SuppressWarnings("unchecked")
     public T getTag() {
-        return !this.plainTag.isBlank() ? this.tag : null;
+        Object tag = this.tag;
+        if (tag == UNTRANSLATED) {
+            // Threads which translate the tag at the same time all return the translation which was set first
+            Object translated = !this.plainTag.isBlank() ? this.api.getTranslationCache().translate(this.plainTag) : null;
+            tag = TAG.compareAndSet(this, UNTRANSLATED, translated) ? translated : this.tag;
+        }
+        return (T) tag;
     }
 
     /**
@@ -111,11 +247,7 @@ public class PlayerInfo<T> {
      */
     @NotNull
     public GlobalPosition getPosition() {
-        try {
-            return GlobalPosition.valueOf(this.position.toUpperCase());
-        } catch (Exception ignored) {
-            return GlobalPosition.ABOVE;
-        }
+        return this.position;
     }
 
     /**
@@ -154,7 +286,18 @@ public class PlayerInfo<T> {
      */
     @Nullable
     public String getIconUrl() {
+        return this.iconUrl;
+    }
+
+    /**
+     * Computes the URL for the player's global icon once, so {@link #getIconUrl()} doesn't format it on every call.
+     *
+     * @return The URL of the player's global icon, either custom or default.
+     */
+    @Nullable
+    private String computeIconUrl() {
         GlobalIcon icon = this.getGlobalIcon();
+        if (icon == null) return null;
         if (this.hasCustomGlobalIcon()) return this.urls.getCustomIcon(this.uuid, this.icon.hash);
         else if(icon == GlobalIcon.CUSTOM || icon == GlobalIcon.NONE) {
             return null;
@@ -172,6 +315,16 @@ public class PlayerInfo<T> {
         return this.permissions.contains(permission);
     }
 
+    /**
+     * Gets all permissions of the player.
+     *
+     * @return An unmodifiable set of the player's permissions.
+     */
+    @NotNull
+    public Set<GlobalPermission> getPermissions() {
+        return this.permissions;
+    }
+
     /**
      * Gets the number of players this player has invited.
      *
@@ -283,7 +436,6 @@ public class PlayerInfo<T> {
     public String toString() {
         return "PlayerInfo{" +
                 "uuid=" + this.uuid +
-                ", tag=" + this.tag +
                 ", plainTag='" + this.plainTag + '\'' +
                 ", position=" + this.getPosition() +
                 ", icon=PlayerIcon{type=" + this.getGlobalIcon() +
@@ -301,9 +453,28 @@ public class PlayerInfo<T> {
      */
     public static class Icon {
 
+        private static final Map<GlobalIcon, Icon> shared = new EnumMap<>(GlobalIcon.class);
+
+        static {
+            for (GlobalIcon type : GlobalIcon.values()) {
+                shared.put(type, new Icon(type, null));
+            }
+        }
+
         private final GlobalIcon type;
         private final String hash;
 
+        /**
+         * Gets the shared icon of a type without a custom hash.
+         *
+         * @param type The {@link GlobalIcon} type.
+         * @return The shared icon.
+         */
+        @NotNull
+        public static Icon of(@NotNull GlobalIcon type) {
+            return shared.get(type);
+        }
+
         /**
          * Creates a new icon.
          *
@@ -329,6 +500,11 @@ public class PlayerInfo<T> {
      */
     public static class ReferralInfo {
 
+        /**
+         * The referral info of a player who hasn't referred or invited anyone, shared by all those players.
+         */
+        public static final ReferralInfo EMPTY = new ReferralInfo(false, 0, 0);
+
         @SerializedName("has_referred")
         private final boolean hasReferred;
 
@@ -378,6 +554,15 @@ public class PlayerInfo<T> {
             return this.currentMonthReferrals;
         }
 
+        /**
+         * Checks if this info holds no referrals at all.
+         *
+         * @return {@code true} if the player hasn't referred or invited anyone.
+         */
+        private boolean isEmpty() {
+            return !this.hasReferred && this.totalReferrals == 0 && this.currentMonthReferrals == 0;
+        }
+
         @Override
         public String toString() {
             return "ReferralInfo{" +
@@ -389,16 +574,56 @@ public class PlayerInfo<T> {
     }
 
     /**
-     * Manages caching of {@link PlayerInfo} instances.
+     * Manages caching of {@link PlayerInfo} instances. The cache is safe to use from multiple threads; reads never block.
      *
      * @param <T> The data type managed by the associated {@link GlobalTagsAPI}.
      */
     public static class Cache<T> {
 
-        private final static Timer timer = new Timer();
+        private static final long SWEEP_INTERVAL = 1000 * 60;
+        private static final long NEVER = Long.MAX_VALUE;
         private final GlobalTagsAPI<T> api;
-        private final Map<UUID, PlayerInfo<T>> cache = new HashMap<>();
-        private final Set<UUID> resolving = new HashSet<>();
+        private final Options options;
+        private final long refreshAfterWrite;
+        private final long expireAfterWrite;
+        private final long notFoundTtl;
+        private final long errorTtl;
+        private final Map<UUID, Entry<T>> cache = new ConcurrentHashMap<>();
+        private final Map<UUID, CompletableFuture<PlayerInfo<T>>> resolving = new ConcurrentHashMap<>();
+        /**
+         * Orders the writes of the cache. Responses are stamped when their request is sent, so a response of an older
+         * request never overwrites a newer entry.
+         */
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile long clearedSequence;
+        private final AtomicBoolean evicting = new AtomicBoolean();
+        private long lastAging;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder fetches = new LongAdder();
+        private final LongAdder coalescedFetches = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder batchedFetches = new LongAdder();
+        private final LongAdder batchWaitTime = new LongAdder();
+        private final LongAdder conditionalFetches = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+        private final LongAdder bytesSaved = new LongAdder();
+        private final LongAdder snapshotFailures = new LongAdder();
+        private final LongAdder taskFailures = new LongAdder();
+        private final Object batchLock = new Object();
+        private Map<UUID, CompletableFuture<PlayerInfo<T>>> batch = new LinkedHashMap<>();
+        private long batchStartTime;
+        private ScheduledFuture<?> batchFlush;
+        private final Queue<UUID> refreshQueue = new ConcurrentLinkedQueue<>();
+        private final Set<UUID> queuedRefreshes = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger runningRefreshes = new AtomicInteger();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<Void> snapshotLoad;
+        private final Object snapshotLock = new Object();
+        private final List<ScheduledFuture<?>> tasks = new CopyOnWriteArrayList<>();
+        private volatile RateLimiter refreshLimiter;
+        private volatile boolean closed;
 
         /**
          * Initializes a cache with default cleanup intervals.
@@ -406,19 +631,7 @@ public class PlayerInfo<T> {
          * @param api The associated {@link GlobalTagsAPI} instance.
          */
         public Cache(GlobalTagsAPI<T> api) {
-            this(api, new Options() {
-                @Override
-                public long getCacheClearInterval() {
-                    // Default is 30 minutes
-                    return 1000 * 60 * 30;
-                }
-
-                @Override
-                public long getCacheRenewInterval() {
-                    // Default is 5 minutes
-                    return 1000 * 60 * 30;
-                }
-            });
+            this(api, new Options() {});
         }
 
         /**
@@ -431,34 +644,181 @@ public class PlayerInfo<T> {
             Objects.requireNonNull(api, "api must not be null");
             Objects.requireNonNull(options, "options may not be null");
             this.api = api;
-            if (options.getCacheClearInterval() > -1) {
-                timer.scheduleAtFixedRate(new TimerTask() {
-                    @Override
-                    public void run() {
-                        api.getCache().clear();
-                        if (api.getClientUUID() != null) api.getCache().resolveSelf();
-                    }
-                }, options.getCacheClearInterval(), options.getCacheClearInterval());
+            this.options = options;
+            this.refreshAfterWrite = toNanos(options.getRefreshAfterWrite());
+            this.expireAfterWrite = toNanos(options.getExpireAfterWrite());
+            this.notFoundTtl = toNanos(options.getNotFoundTtl());
+            this.errorTtl = toNanos(options.getErrorTtl());
+            // The snapshot is read in the background, lookups don't wait for it
+            this.snapshotLoad = options.getSnapshotFile() != null
+                    ? this.runBlocking(this::loadSnapshot)
+                    : CompletableFuture.completedFuture(null);
+        }
+
+        /**
+         * Starts the background tasks of this cache on the {@link GlobalTagsAPI#getScheduler()}. This happens on the
+         * first write, so caches which are never used don't start any threads.
+         */
+        @SuppressWarnings("deprecation")
+        private void start() {
+            if (this.closed || !this.started.compareAndSet(false, true)) return;
+            if (this.options.getRefreshRate() > 0) {
+                this.refreshLimiter = new RateLimiter(
+                        this.api.getScheduler(),
+                        this.options.getRefreshRate(),
+                        Math.max(1, this.options.getRefreshConcurrency())
+                );
             }
+            this.schedule(this::purgeExpired, SWEEP_INTERVAL);
 
-            if (options.getCacheRenewInterval() > -1) {
-                timer.scheduleAtFixedRate(new TimerTask() {
-                    @Override
-                    public void run() {
-                        api.getCache().renewAll();
-                    }
-                }, options.getCacheRenewInterval(), options.getCacheRenewInterval());
+            if (this.options.getCacheClearInterval() > -1) {
+                this.schedule(() -> {
+                    this.clear();
+                    if (this.api.getClientUUID() != null) this.resolveSelf();
+                }, this.options.getCacheClearInterval());
+            }
+            if (this.options.getCacheRenewInterval() > -1) {
+                this.schedule(this::renewAll, this.options.getCacheRenewInterval());
+            }
+            if (this.options.getSnapshotFile() != null && this.options.getSnapshotInterval() > 0) {
+                // Only the timer runs on the scheduler, the file is written on the worker executor
+                this.schedule(() -> this.runBlocking(this::saveSnapshot), this.options.getSnapshotInterval());
+            }
+        }
+
+        /**
+         * Schedules a periodic task. Exceptions are counted in {@link Stats#getTaskFailureCount()}, so a failing run
+         * doesn't cancel later runs.
+         *
+         * @param task     The task
+         * @param interval The interval in milliseconds
+         */
+        private void schedule(Runnable task, long interval) {
+            this.tasks.add(this.api.getScheduler().scheduleAtFixedRate(
+                    this.guard(task),
+                    interval,
+                    interval,
+                    TimeUnit.MILLISECONDS
+            ));
+        }
+
+        /**
+         * Runs a task on the {@link GlobalTagsAPI#getScheduler()} unless the cache is closed
+         *
+         * @param task The task
+         */
+        private void execute(Runnable task) {
+            if (this.closed) return;
+            try {
+                this.api.getScheduler().execute(this.guard(task));
+            } catch (RejectedExecutionException ignored) {
+            }
+        }
+
+        /**
+         * Runs blocking file I/O on the {@link GlobalTagsAPI#getWorkerExecutor()}, so a slow disk never delays the
+         * {@link GlobalTagsAPI#getScheduler()}
+         *
+         * @param task The task
+         * @return A future which is completed when the task ran, or right away if the executor is shut down
+         */
+        private CompletableFuture<Void> runBlocking(Runnable task) {
+            try {
+                return CompletableFuture.runAsync(this.guard(task), this.api.getWorkerExecutor());
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.completedFuture(null);
             }
         }
 
+        /**
+         * Wraps a background task, so its exceptions are counted in {@link Stats#getTaskFailureCount()} instead of
+         * being swallowed by the scheduler
+         *
+         * @param task The task
+         * @return The wrapped task
+         */
+        private Runnable guard(Runnable task) {
+            return () -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    this.taskFailures.increment();
+                }
+            };
+        }
+
         /**
          * Adds a {@link PlayerInfo} to the cache
          *
          * @param uuid The corresponding {@link UUID}
          * @param info The {@link PlayerInfo}
          */
-        public void add(UUID uuid, PlayerInfo<T> info) {
-            this.cache.put(uuid, info);
+        public void add(UUID uuid, @Nullable PlayerInfo<T> info) {
+            this.add(uuid, info, null, -1, this.sequence.incrementAndGet());
+        }
+
+        /**
+         * Adds a fetched {@link PlayerInfo} to the cache
+         *
+         * @param uuid      The corresponding {@link UUID}
+         * @param info      The {@link PlayerInfo}
+         * @param validator The validator of the response, used to send a conditional request on the next refresh
+         * @param bodySize  The size of the response body in bytes, or -1 if unknown
+         * @param sequence  The sequence number of the write
+         * @return The cached entry, which is a newer entry if one was written in the meantime
+         */
+        private Entry<T> add(UUID uuid, @Nullable PlayerInfo<T> info, @Nullable Validator validator, long bodySize, long sequence) {
+            long now = System.nanoTime();
+            return this.put(uuid, new Entry<>(
+                    info,
+                    now,
+                    this.nextRefreshTime(now),
+                    this.expireAfterWrite >= 0 ? now + this.expireAfterWrite : NEVER,
+                    validator,
+                    bodySize,
+                    sequence
+            ));
+        }
+
+        /**
+         * Caches that a player could not be fetched. The entry is never refreshed and expires after the given time.
+         *
+         * @param uuid The corresponding {@link UUID}
+         * @param ttl      The time in nanoseconds after which the player is fetched again, or -1 to not cache the failure
+         * @param sequence The sequence number of the write
+         * @return The cached info, which is a newer info if one was written in the meantime
+         */
+        @Nullable
+        private PlayerInfo<T> addNegative(UUID uuid, long ttl, long sequence) {
+            if (ttl < 0) return null;
+            long now = System.nanoTime();
+            return this.put(uuid, new Entry<>(null, now, NEVER, now + ttl, null, -1, sequence)).info;
+        }
+
+        /**
+         * Puts an entry into the cache, keeping the access frequency of a replaced entry. An entry which was written
+         * later than the new entry is kept. An entry which was requested before the last {@link #clear()} isn't cached
+         * at all, it could be older than a write which was cleared.
+         *
+         * @param uuid  The corresponding {@link UUID}
+         * @param entry The new entry
+         * @return The cached entry, or the new entry if it was not cached
+         */
+        private Entry<T> put(UUID uuid, Entry<T> entry) {
+            this.start();
+            boolean[] added = new boolean[1];
+            Entry<T> cached = this.cache.compute(uuid, (key, previous) -> {
+                if (previous == null) {
+                    if (entry.sequence <= this.clearedSequence) return null;
+                    added[0] = true;
+                    return entry;
+                }
+                if (previous.sequence > entry.sequence) return previous;
+                entry.frequency = previous.frequency;
+                return entry;
+            });
+            if (added[0]) this.evictIfNeeded();
+            return cached != null ? cached : entry;
         }
 
         /**
@@ -484,7 +844,8 @@ public class PlayerInfo<T> {
          * @return If the player is in the cache
          */
         public boolean has(UUID uuid) {
-            return this.cache.containsKey(uuid);
+            Entry<T> entry = this.cache.get(uuid);
+            return entry != null && !this.isExpired(entry, System.nanoTime());
         }
 
         /**
@@ -495,7 +856,112 @@ public class PlayerInfo<T> {
          */
         @Nullable
         public PlayerInfo<T> get(UUID uuid) {
-            return this.cache.get(uuid);
+            Entry<T> entry = this.lookup(uuid);
+            return entry != null ? entry.info : null;
+        }
+
+        /**
+         * Looks up a cache entry and records the access for statistics and eviction. Expired entries are removed,
+         * entries past {@link Options#getRefreshAfterWrite()} are still returned while they are refreshed in the
+         * background.
+         *
+         * @param uuid The player's {@link UUID}
+         * @return The cache entry or null if the player is not cached
+         */
+        @Nullable
+        private Entry<T> lookup(UUID uuid) {
+            Entry<T> entry = this.cache.get(uuid);
+            long now = System.nanoTime();
+            if (entry != null && this.isExpired(entry, now)) {
+                this.cache.remove(uuid, entry);
+                entry = null;
+            }
+            if (entry == null) {
+                this.misses.increment();
+                return null;
+            }
+            this.hits.increment();
+            entry.frequency++;
+            if (hasPassed(entry.refreshTime, now)) {
+                this.scheduleRefresh(uuid);
+            }
+            return entry;
+        }
+
+        /**
+         * Calculates when an entry written now should be refreshed. A random jitter of up to
+         * {@link Options#getRefreshJitter()} is applied, so entries written at the same time are not refreshed at the
+         * same time.
+         *
+         * @param now The current {@link System#nanoTime()}
+         * @return The refresh time of the entry
+         */
+        private long nextRefreshTime(long now) {
+            if (this.refreshAfterWrite < 0) return NEVER;
+            double jitter = this.options.getRefreshJitter() * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+            return now + (long) (this.refreshAfterWrite * (1 + jitter));
+        }
+
+        /**
+         * Queues a background refresh of a specific uuid
+         *
+         * @param uuid The uuid which should be refreshed
+         */
+        private void scheduleRefresh(UUID uuid) {
+            if (this.closed || this.resolving.containsKey(uuid) || !this.queuedRefreshes.add(uuid)) return;
+            this.refreshQueue.offer(uuid);
+            this.execute(this::drainRefreshQueue);
+        }
+
+        /**
+         * Starts queued refreshes until {@link Options#getRefreshConcurrency()} refreshes are running. Only runs on the
+         * {@link GlobalTagsAPI#getScheduler()}.
+         */
+        private void drainRefreshQueue() {
+            while (!this.closed && this.runningRefreshes.get() < Math.max(1, this.options.getRefreshConcurrency())) {
+                UUID uuid = this.refreshQueue.poll();
+                if (uuid == null) return;
+                this.runningRefreshes.incrementAndGet();
+
+                RateLimiter limiter = this.refreshLimiter;
+                CompletableFuture<Void> permit = limiter != null ? limiter.acquire() : CompletableFuture.completedFuture(null);
+                permit.thenCompose((ignored) -> this.fetch(uuid)).whenComplete((info, throwable) -> {
+                    this.queuedRefreshes.remove(uuid);
+                    this.runningRefreshes.decrementAndGet();
+                    this.execute(this::drainRefreshQueue);
+                });
+            }
+        }
+
+        /**
+         * Removes all expired entries
+         */
+        private void purgeExpired() {
+            long now = System.nanoTime();
+            this.cache.entrySet().removeIf((entry) -> this.isExpired(entry.getValue(), now));
+        }
+
+        /**
+         * Checks if an entry has expired. While the {@link GlobalTagsAPI#getCircuitBreaker()} is open, player info is
+         * kept past its expiry, because it can't be fetched again anyway.
+         *
+         * @param entry The cache entry
+         * @param now   The current {@link System#nanoTime()}
+         * @return If the entry is expired
+         */
+        private boolean isExpired(Entry<T> entry, long now) {
+            return hasPassed(entry.expireTime, now) && (entry.info == null || !this.api.getCircuitBreaker().isOpen());
+        }
+
+        /**
+         * Checks if a point in time has passed
+         *
+         * @param time The point in time as {@link System#nanoTime()}, or {@link #NEVER}
+         * @param now  The current {@link System#nanoTime()}
+         * @return If the point in time has passed
+         */
+        private static boolean hasPassed(long time, long now) {
+            return time != NEVER && now - time >= 0;
         }
 
         /**
@@ -532,30 +998,248 @@ public class PlayerInfo<T> {
          * @param consumer A consumer returning the resolved {@link PlayerInfo}
          */
         public void resolve(UUID uuid, Consumer<@Nullable PlayerInfo<T>> consumer) {
-            if (this.has(uuid)) {
-                consumer.accept(this.get(uuid));
+            Entry<T> entry = this.lookup(uuid);
+            if (entry != null) {
+                consumer.accept(entry.info);
                 return;
             }
             this.fetch(uuid, consumer);
         }
 
         /**
-         * Fetches a specific {@link UUID}
+         * Resolve multiple {@link UUID}s into the cache. Cached players are served from the cache, the others are
+         * fetched with at most {@link GlobalTagsAPI.HttpOptions#getBatchConcurrency()} requests at the same time.
+         *
+         * @param uuids    The uuids which should be resolved
+         * @param consumer A consumer returning the resolved {@link PlayerInfo}s by uuid. Players which could not be
+         *                 resolved are mapped to null.
+         */
+        public void resolveAll(Collection<UUID> uuids, Consumer<Map<UUID, @Nullable PlayerInfo<T>>> consumer) {
+            this.resolveAll(uuids).thenAccept(consumer);
+        }
+
+        /**
+         * Resolve multiple {@link UUID}s into the cache. Cached players are served from the cache, the others are
+         * fetched with at most {@link GlobalTagsAPI.HttpOptions#getBatchConcurrency()} requests at the same time.
+         *
+         * @param uuids The uuids which should be resolved
+         * @return A future completed with the resolved {@link PlayerInfo}s by uuid. Players which could not be resolved
+         * are mapped to null.
+         */
+        public CompletableFuture<Map<UUID, @Nullable PlayerInfo<T>>> resolveAll(Collection<UUID> uuids) {
+            return Futures.fanOut(uuids, Math.max(1, this.api.getHttpOptions().getBatchConcurrency()), (uuid) -> {
+                Entry<T> entry = this.lookup(uuid);
+                // Copy shared fetches, so cancelling the batch doesn't cancel them for other callers
+                return entry != null ? CompletableFuture.completedFuture(entry.info) : this.fetch(uuid).copy();
+            });
+        }
+
+        /**
+         * Fetches a specific {@link UUID}. Concurrent fetches of the same uuid share a single request.
          *
          * @param uuid     The uuid which should be fetched
          * @param consumer A consumer returning the resolved {@link PlayerInfo}
          */
         private void fetch(UUID uuid, Consumer<@Nullable PlayerInfo<T>> consumer) {
-            if (this.resolving.contains(uuid)) return;
-            this.resolving.add(uuid);
+            this.fetch(uuid).thenAccept(consumer);
+        }
+
+        /**
+         * Fetches a specific {@link UUID}. Concurrent fetches of the same uuid share a single request.
+         *
+         * @param uuid The uuid which should be fetched
+         * @return A future completed with the fetched {@link PlayerInfo}
+         */
+        private CompletableFuture<PlayerInfo<T>> fetch(UUID uuid) {
+            CompletableFuture<PlayerInfo<T>> future = new CompletableFuture<>();
+            CompletableFuture<PlayerInfo<T>> pending = this.resolving.putIfAbsent(uuid, future);
+            if (pending != null) {
+                this.coalescedFetches.increment();
+                return pending;
+            }
+            this.fetches.increment();
+
+            if (this.options.getBatchWindow() > 0) {
+                this.enqueue(uuid, future);
+            } else {
+                this.send(uuid, future);
+            }
+            return future;
+        }
+
+        /**
+         * Fetches a specific {@link UUID} with a new request, even if a fetch is already running. A running fetch may
+         * have been sent before the player was changed, so its response could be outdated. Fetches which start
+         * afterwards join the new request.
+         *
+         * @param uuid The uuid which should be fetched
+         * @return A future completed with the fetched {@link PlayerInfo}
+         */
+        private CompletableFuture<PlayerInfo<T>> refetch(UUID uuid) {
+            CompletableFuture<PlayerInfo<T>> future = new CompletableFuture<>();
+            this.resolving.put(uuid, future);
+            this.fetches.increment();
+            this.send(uuid, future);
+            return future;
+        }
+
+        /**
+         * Sends the request of a fetch and completes the fetch with its response. The fetch is always completed, even if
+         * the request could not be sent.
+         *
+         * @param uuid   The uuid which should be fetched
+         * @param future The future of the fetch
+         * @return A future completed once the fetch is completed
+         */
+        private CompletableFuture<Void> send(UUID uuid, CompletableFuture<PlayerInfo<T>> future) {
+            return this.send(uuid, future, true);
+        }
+
+        /**
+         * Sends the request of a fetch and completes the fetch with its response. The fetch is always completed, even if
+         * the request could not be sent.
+         *
+         * @param uuid        The uuid which should be fetched
+         * @param future      The future of the fetch
+         * @param conditional If the validator of the cached entry may be sent
+         * @return A future completed once the fetch is completed
+         */
+        private CompletableFuture<Void> send(UUID uuid, CompletableFuture<PlayerInfo<T>> future, boolean conditional) {
+            long sequence = this.sequence.incrementAndGet();
+            CompletableFuture<ApiResponse<PlayerInfo<T>>> request;
+            try {
+                request = this.request(uuid, conditional);
+            } catch (RuntimeException e) {
+                request = CompletableFuture.failedFuture(e);
+            }
+            return request.handle((response, throwable) -> {
+                if (conditional && response != null && response.isNotModified()) {
+                    Entry<T> cached = this.cache.get(uuid);
+                    // The entry was removed while the request was running, so the 304 has no info to refer to
+                    if (cached == null || cached.info == null) return this.send(uuid, future, false);
+                }
+                this.complete(uuid, sequence, future, response != null
+                        ? response
+                        : new ApiResponse<>(false, null, Futures.unwrap(throwable).getLocalizedMessage()));
+                return CompletableFuture.<Void>completedFuture(null);
+            }).thenCompose(Function.identity());
+        }
+
+        /**
+         * Adds a fetch to the current batch. The batch is sent once {@link Options#getBatchWindow()} has passed or it
+         * reached {@link Options#getMaximumBatchSize()}.
+         *
+         * @param uuid   The uuid which should be fetched
+         * @param future The future of the fetch
+         */
+        private void enqueue(UUID uuid, CompletableFuture<PlayerInfo<T>> future) {
+            boolean full;
+            synchronized (this.batchLock) {
+                if (this.batch.isEmpty()) {
+                    this.batchStartTime = System.nanoTime();
+                    try {
+                        this.batchFlush = this.api.getScheduler().schedule(
+                                this.guard(this::flushBatch),
+                                this.options.getBatchWindow(),
+                                TimeUnit.MILLISECONDS
+                        );
+                    } catch (RejectedExecutionException ignored) {
+                        // The scheduler was shut down, the batch is sent right away below
+                    }
+                }
+                this.batch.put(uuid, future);
+                full = this.batchFlush == null || this.batch.size() >= this.options.getMaximumBatchSize();
+            }
+            if (full) this.flushBatch();
+        }
 
-            this.api.getApiHandler().getInfo(uuid, (info) -> {
-                this.add(uuid, info.getData());
-                this.resolving.remove(uuid);
-                this.resolve(uuid, consumer);
+        /**
+         * Sends the current batch. The fetches of a batch are sent with at most
+         * {@link GlobalTagsAPI.HttpOptions#getBatchConcurrency()} requests at the same time, every fetch is completed as
+         * soon as its own response arrived.
+         */
+        private void flushBatch() {
+            Map<UUID, CompletableFuture<PlayerInfo<T>>> batch;
+            long startTime;
+            synchronized (this.batchLock) {
+                if (this.batch.isEmpty()) return;
+                batch = this.batch;
+                startTime = this.batchStartTime;
+                this.batch = new LinkedHashMap<>();
+                if (this.batchFlush != null) this.batchFlush.cancel(false);
+                this.batchFlush = null;
+            }
+            this.batches.increment();
+            this.batchedFetches.add(batch.size());
+            this.batchWaitTime.add(System.nanoTime() - startTime);
+            Futures.fanOut(
+                    batch.keySet(),
+                    Math.max(1, this.api.getHttpOptions().getBatchConcurrency()),
+                    (uuid) -> this.send(uuid, batch.get(uuid))
+            ).whenComplete((ignored, throwable) -> {
+                if (throwable == null) return;
+                // Fetches which were not sent must not stay pending forever
+                ApiResponse<PlayerInfo<T>> failure = new ApiResponse<>(false, null, Futures.unwrap(throwable).getLocalizedMessage());
+                batch.forEach((uuid, future) -> {
+                    if (!future.isDone()) this.complete(uuid, this.sequence.incrementAndGet(), future, failure);
+                });
             });
         }
 
+        /**
+         * Requests the info of a player. If the player is cached and its last response had a validator, a conditional
+         * request is sent, so the API only sends the info again if it changed.
+         *
+         * @param uuid        The uuid which should be fetched
+         * @param conditional If the validator of the cached entry may be sent
+         * @return A future completed with the response
+         */
+        private CompletableFuture<ApiResponse<PlayerInfo<T>>> request(UUID uuid, boolean conditional) {
+            Entry<T> current = conditional ? this.cache.get(uuid) : null;
+            Validator validator = current != null && current.info != null ? current.validator : null;
+            if (validator != null) this.conditionalFetches.increment();
+            return this.api.getApiHandler().getInfoIfModified(uuid, validator);
+        }
+
+        /**
+         * Stores the response of a fetch in the cache and completes the fetch
+         *
+         * @param uuid     The uuid which was fetched
+         * @param sequence The sequence number of the request
+         * @param future   The future of the fetch
+         * @param response The response of the API
+         */
+        private void complete(UUID uuid, long sequence, CompletableFuture<PlayerInfo<T>> future, ApiResponse<PlayerInfo<T>> response) {
+            PlayerInfo<T> info = response.getData();
+            try {
+                Entry<T> stale = this.cache.get(uuid);
+                if (response.isNotModified()) {
+                    // Keep the cached info as it is, without parsing or translating it again
+                    if (stale != null && stale.info != null) {
+                        this.notModified.increment();
+                        if (stale.bodySize > 0) this.bytesSaved.add(stale.bodySize);
+                        Validator validator = response.getValidator();
+                        info = this.add(uuid, stale.info, validator != null ? validator : stale.validator, stale.bodySize, sequence).info;
+                    }
+                } else if (response.isSuccessful()) {
+                    info = this.add(uuid, info, response.getValidator(), response.getBodySize(), sequence).info;
+                } else if (response.getStatusCode() == 404) {
+                    info = this.addNegative(uuid, this.notFoundTtl, sequence);
+                } else if (stale != null && stale.info != null) {
+                    // Keep serving the stale info and try again once the error ttl has passed. Without an error
+                    // ttl the next attempt follows the normal refresh interval instead of the very next lookup.
+                    long now = System.nanoTime();
+                    stale.refreshTime = this.errorTtl >= 0 ? now + this.errorTtl : this.nextRefreshTime(now);
+                    info = stale.info;
+                } else {
+                    info = this.addNegative(uuid, this.errorTtl, sequence);
+                }
+            } finally {
+                this.resolving.remove(uuid, future);
+                future.complete(info);
+            }
+        }
+
         /**
          * Renews tag data of {@link GlobalTagsAPI#getClientUUID()}
          */
@@ -584,35 +1268,496 @@ public class PlayerInfo<T> {
         }
 
         /**
-         * Renews tag data of a specific uuid
+         * Renews tag data of a specific uuid. A new request is sent even if the player is already being fetched, so
+         * changes made right before are never missed.
          *
          * @param uuid     The uuid which should be renewed
          * @param consumer A consumer returning the renewed {@link PlayerInfo}
          */
         public void renew(UUID uuid, Consumer<@Nullable PlayerInfo<T>> consumer) {
-            this.fetch(uuid, (info) -> {
-                this.cache.put(uuid, info);
-                consumer.accept(info);
-            });
+            this.refetch(uuid).thenAccept(consumer);
         }
 
         /**
-         * Renews tag data of all cached uuids
+         * Renews tag data of all cached uuids. The renewals are queued and sent with the limits of
+         * {@link Options#getRefreshConcurrency()} and {@link Options#getRefreshRate()}.
          */
         public void renewAll() {
             for (UUID uuid : this.cache.keySet()) {
-                this.renew(uuid);
+                this.scheduleRefresh(uuid);
+            }
+        }
+
+        /**
+         * Gets the number of cached players
+         *
+         * @return The number of cached players
+         */
+        public int size() {
+            return this.cache.size();
+        }
+
+        /**
+         * Evicts the least frequently used entries once the cache grows beyond {@link Options#getMaximumSize()}.
+         * The cache is shrunk to 90% of its maximum size in one pass, so the cost of sorting the entries is spread
+         * over many insertions. Every ten times the maximum size of lookups and evictions, the access frequencies are
+         * halved, which lets players that used to be popular age out once they are no longer seen.
+         */
+        private void evictIfNeeded() {
+            long maximumSize = this.options.getMaximumSize();
+            if (maximumSize < 0 || this.cache.size() <= maximumSize) return;
+            if (!this.evicting.compareAndSet(false, true)) return;
+            try {
+                List<Map.Entry<UUID, Entry<T>>> candidates = new ArrayList<>(this.cache.entrySet());
+                candidates.sort(Comparator
+                        .comparingInt((Map.Entry<UUID, Entry<T>> candidate) -> candidate.getValue().frequency)
+                        .thenComparingLong(candidate -> candidate.getValue().writeTime)
+                );
+                long excess = candidates.size() - maximumSize * 9 / 10;
+                for (int i = 0; i < excess && i < candidates.size(); i++) {
+                    Map.Entry<UUID, Entry<T>> candidate = candidates.get(i);
+                    if (this.cache.remove(candidate.getKey(), candidate.getValue())) {
+                        this.evictions.increment();
+                    }
+                }
+                long samples = this.hits.sum() + this.misses.sum() + this.evictions.sum();
+                if (samples - this.lastAging >= maximumSize * 10) {
+                    this.lastAging = samples;
+                    for (Entry<T> entry : this.cache.values()) {
+                        entry.frequency >>>= 1;
+                    }
+                }
+            } finally {
+                this.evicting.set(false);
+            }
+        }
+
+        /**
+         * Stops all background tasks of this cache and writes the {@link Options#getSnapshotFile()}. Cached entries can
+         * still be read, but are no longer refreshed.
+         */
+        public void close() {
+            this.closed = true;
+            for (ScheduledFuture<?> task : this.tasks) {
+                task.cancel(false);
+            }
+            this.tasks.clear();
+            this.refreshQueue.clear();
+            this.queuedRefreshes.clear();
+            this.saveSnapshot();
+        }
+
+        /**
+         * Loads the {@link Options#getSnapshotFile()}. A missing snapshot is ignored, a broken one is counted in
+         * {@link Stats#getSnapshotFailureCount()}.
+         */
+        private void loadSnapshot() {
+            Path file = this.options.getSnapshotFile();
+            if (file == null) return;
+            try {
+                this.loadSnapshot(file);
+            } catch (IOException | RuntimeException e) {
+                this.snapshotFailures.increment();
+            }
+        }
+
+        /**
+         * Loads a snapshot which was written with {@link #saveSnapshot(Path)}. The loaded players are returned right
+         * away but are considered stale, so they are refreshed in the background on their first lookup. Players which
+         * are already cached are not replaced.
+         *
+         * @param file The snapshot file
+         * @return The number of loaded players
+         * @throws IOException If the snapshot could not be read
+         */
+        public int loadSnapshot(@NotNull Path file) throws IOException {
+            List<PlayerInfo<T>> players = PlayerInfoSnapshot.read(this.api, file);
+            long now = System.nanoTime();
+            int loaded = 0;
+            for (PlayerInfo<T> info : players) {
+                Entry<T> entry = new Entry<>(
+                        info,
+                        now,
+                        this.refreshAfterWrite >= 0 ? now : NEVER,
+                        this.expireAfterWrite >= 0 ? now + this.expireAfterWrite : NEVER
+                );
+                if (this.cache.putIfAbsent(info.getUUID(), entry) == null) loaded++;
+            }
+            if (loaded > 0) {
+                this.start();
+                this.evictIfNeeded();
+            }
+            return loaded;
+        }
+
+        /**
+         * Writes the {@link Options#getSnapshotFile()}, if one is configured. Errors are counted in
+         * {@link Stats#getSnapshotFailureCount()}.
+         */
+        private void saveSnapshot() {
+            Path file = this.options.getSnapshotFile();
+            // Until the snapshot is loaded, writing it would replace it with the few players fetched so far
+            if (file == null || !this.snapshotLoad.isDone()) return;
+            synchronized (this.snapshotLock) {
+                try {
+                    this.saveSnapshot(file);
+                } catch (IOException | RuntimeException e) {
+                    this.snapshotFailures.increment();
+                }
+            }
+        }
+
+        /**
+         * Writes a binary snapshot of all cached players, which can be loaded with {@link #loadSnapshot(Path)} after
+         * a restart. Players which could not be fetched are not written.
+         *
+         * @param file The snapshot file
+         * @throws IOException If the snapshot could not be written
+         */
+        public void saveSnapshot(@NotNull Path file) throws IOException {
+            long now = System.nanoTime();
+            List<PlayerInfo<?>> players = new ArrayList<>(this.cache.size());
+            for (Entry<T> entry : this.cache.values()) {
+                if (entry.info != null && !hasPassed(entry.expireTime, now)) players.add(entry.info);
             }
+            PlayerInfoSnapshot.write(file, players);
+        }
+
+        /**
+         * Gets a snapshot of the cache statistics
+         *
+         * @return The current {@link Stats}
+         */
+        @NotNull
+        public Stats getStats() {
+            return new Stats(
+                    this.hits.sum(),
+                    this.misses.sum(),
+                    this.evictions.sum(),
+                    this.fetches.sum(),
+                    this.coalescedFetches.sum(),
+                    this.batches.sum(),
+                    this.batchedFetches.sum(),
+                    this.batchWaitTime.sum(),
+                    this.conditionalFetches.sum(),
+                    this.notModified.sum(),
+                    this.bytesSaved.sum(),
+                    this.snapshotFailures.sum(),
+                    this.taskFailures.sum()
+            );
         }
 
         /**
          * Clears the cache
          */
         public void clear() {
+            this.clearedSequence = this.sequence.incrementAndGet();
             this.cache.clear();
             this.resolving.clear();
         }
 
+        /**
+         * A cached value. Players which could not be fetched are stored with a {@code null} info, so they are not
+         * fetched again until the entry expires.
+         *
+         * @param <T> The data type managed by the associated {@link GlobalTagsAPI}.
+         */
+        private static final class Entry<T> {
+
+            private final PlayerInfo<T> info;
+            private final long writeTime;
+            private final long expireTime;
+            private final Validator validator;
+            private final long bodySize;
+            private final long sequence;
+            private volatile long refreshTime;
+            /**
+             * Approximate access count. Updated without synchronization on purpose, lost increments are acceptable.
+             */
+            private int frequency = 1;
+
+            private Entry(@Nullable PlayerInfo<T> info, long writeTime, long refreshTime, long expireTime) {
+                this(info, writeTime, refreshTime, expireTime, null, -1, 0);
+            }
+
+            private Entry(@Nullable PlayerInfo<T> info, long writeTime, long refreshTime, long expireTime, @Nullable Validator validator, long bodySize, long sequence) {
+                this.info = info;
+                this.sequence = sequence;
+                this.writeTime = writeTime;
+                this.refreshTime = refreshTime;
+                this.expireTime = expireTime;
+                this.validator = validator;
+                this.bodySize = bodySize;
+            }
+        }
+
+        /**
+         * Converts an option in milliseconds to nanoseconds, keeping negative values as disabled
+         *
+         * @param millis The option value in milliseconds
+         * @return The value in nanoseconds or -1 if disabled
+         */
+        private static long toNanos(long millis) {
+            return millis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        /**
+         * A point-in-time snapshot of the cache statistics.
+         */
+        public static class Stats {
+
+            private final long hitCount;
+            private final long missCount;
+            private final long evictionCount;
+            private final long fetchCount;
+            private final long coalescedFetchCount;
+            private final long batchCount;
+            private final long batchedFetchCount;
+            private final long totalBatchWaitTime;
+            private final long conditionalFetchCount;
+            private final long notModifiedCount;
+            private final long bytesSaved;
+            private final long snapshotFailureCount;
+            private final long taskFailureCount;
+
+            /**
+             * Creates a new statistics snapshot
+             *
+             * @param hitCount            The number of lookups which found a cached entry
+             * @param missCount           The number of lookups which found no cached entry
+             * @param evictionCount       The number of entries evicted because the cache was full
+             * @param fetchCount          The number of requests sent to the API
+             * @param coalescedFetchCount The number of fetches which joined an already running request
+             */
+            public Stats(long hitCount, long missCount, long evictionCount, long fetchCount, long coalescedFetchCount) {
+                this(hitCount, missCount, evictionCount, fetchCount, coalescedFetchCount, 0, 0, 0);
+            }
+
+            /**
+             * Creates a new statistics snapshot including batching statistics
+             *
+             * @param hitCount            The number of lookups which found a cached entry
+             * @param missCount           The number of lookups which found no cached entry
+             * @param evictionCount       The number of entries evicted because the cache was full
+             * @param fetchCount          The number of requests sent to the API
+             * @param coalescedFetchCount The number of fetches which joined an already running request
+             * @param batchCount          The number of batches which were sent
+             * @param batchedFetchCount   The number of fetches which were sent in a batch
+             * @param totalBatchWaitTime  The total time in nanoseconds batches were collected before they were sent
+             */
+            public Stats(long hitCount, long missCount, long evictionCount, long fetchCount, long coalescedFetchCount, long batchCount, long batchedFetchCount, long totalBatchWaitTime) {
+                this(hitCount, missCount, evictionCount, fetchCount, coalescedFetchCount, batchCount, batchedFetchCount, totalBatchWaitTime, 0, 0, 0, 0, 0);
+            }
+
+            /**
+             * Creates a new statistics snapshot including conditional request and failure statistics
+             *
+             * @param hitCount              The number of lookups which found a cached entry
+             * @param missCount             The number of lookups which found no cached entry
+             * @param evictionCount         The number of entries evicted because the cache was full
+             * @param fetchCount            The number of requests sent to the API
+             * @param coalescedFetchCount   The number of fetches which joined an already running request
+             * @param batchCount            The number of batches which were sent
+             * @param batchedFetchCount     The number of fetches which were sent in a batch
+             * @param totalBatchWaitTime    The total time in nanoseconds batches were collected before they were sent
+             * @param conditionalFetchCount The number of requests sent with a validator
+             * @param notModifiedCount      The number of requests the API answered with 304 Not Modified
+             * @param bytesSaved            The estimated number of response bytes saved by 304 responses
+             * @param snapshotFailureCount  The number of failed snapshot reads and writes
+             * @param taskFailureCount      The number of failed background task runs
+             */
+            Stats(long hitCount, long missCount, long evictionCount, long fetchCount, long coalescedFetchCount, long batchCount, long batchedFetchCount, long totalBatchWaitTime, long conditionalFetchCount, long notModifiedCount, long bytesSaved, long snapshotFailureCount, long taskFailureCount) {
+                this.hitCount = hitCount;
+                this.missCount = missCount;
+                this.evictionCount = evictionCount;
+                this.fetchCount = fetchCount;
+                this.coalescedFetchCount = coalescedFetchCount;
+                this.batchCount = batchCount;
+                this.batchedFetchCount = batchedFetchCount;
+                this.totalBatchWaitTime = totalBatchWaitTime;
+                this.conditionalFetchCount = conditionalFetchCount;
+                this.notModifiedCount = notModifiedCount;
+                this.bytesSaved = bytesSaved;
+                this.snapshotFailureCount = snapshotFailureCount;
+                this.taskFailureCount = taskFailureCount;
+            }
+
+            /**
+             * Gets the number of lookups which found a cached entry.
+             *
+             * @return The number of cache hits.
+             */
+            public long getHitCount() {
+                return this.hitCount;
+            }
+
+            /**
+             * Gets the number of lookups which found no cached entry.
+             *
+             * @return The number of cache misses.
+             */
+            public long getMissCount() {
+                return this.missCount;
+            }
+
+            /**
+             * Gets the share of lookups which found a cached entry.
+             *
+             * @return The hit rate between {@code 0} and {@code 1}.
+             */
+            public double getHitRate() {
+                long total = this.hitCount + this.missCount;
+                return total == 0 ? 0 : (double) this.hitCount / total;
+            }
+
+            /**
+             * Gets the number of entries evicted because the cache reached its maximum size.
+             *
+             * @return The number of evicted entries.
+             */
+            public long getEvictionCount() {
+                return this.evictionCount;
+            }
+
+            /**
+             * Gets the number of player info requests sent to the API.
+             *
+             * @return The number of requests sent to the API.
+             */
+            public long getFetchCount() {
+                return this.fetchCount;
+            }
+
+            /**
+             * Gets the number of fetches which joined an already running request instead of sending a new one.
+             *
+             * @return The number of coalesced fetches.
+             */
+            public long getCoalescedFetchCount() {
+                return this.coalescedFetchCount;
+            }
+
+            /**
+             * Gets the share of fetches which were served by an already running request.
+             *
+             * @return The coalesce ratio between {@code 0} and {@code 1}.
+             */
+            public double getCoalesceRatio() {
+                long total = this.fetchCount + this.coalescedFetchCount;
+                return total == 0 ? 0 : (double) this.coalescedFetchCount / total;
+            }
+
+            /**
+             * Gets the number of batches which were sent.
+             *
+             * @return The number of batches.
+             */
+            public long getBatchCount() {
+                return this.batchCount;
+            }
+
+            /**
+             * Gets the number of fetches which were sent in a batch.
+             *
+             * @return The number of batched fetches.
+             */
+            public long getBatchedFetchCount() {
+                return this.batchedFetchCount;
+            }
+
+            /**
+             * Gets the average number of fetches per batch.
+             *
+             * @return The average batch size.
+             */
+            public double getAverageBatchSize() {
+                return this.batchCount == 0 ? 0 : (double) this.batchedFetchCount / this.batchCount;
+            }
+
+            /**
+             * Gets the average time a batch was collected before it was sent.
+             *
+             * @return The average batch wait time in milliseconds.
+             */
+            public double getAverageBatchWaitTime() {
+                return this.batchCount == 0 ? 0 : this.totalBatchWaitTime / 1e6 / this.batchCount;
+            }
+
+            /**
+             * Gets the number of requests which were sent with a validator of a previous response.
+             *
+             * @return The number of conditional requests.
+             */
+            public long getConditionalFetchCount() {
+                return this.conditionalFetchCount;
+            }
+
+            /**
+             * Gets the number of conditional requests the API answered with 304 Not Modified.
+             *
+             * @return The number of not modified responses.
+             */
+            public long getNotModifiedCount() {
+                return this.notModifiedCount;
+            }
+
+            /**
+             * Gets the share of conditional requests which were answered with 304 Not Modified.
+             *
+             * @return The not modified rate between {@code 0} and {@code 1}.
+             */
+            public double getNotModifiedRate() {
+                return this.conditionalFetchCount == 0 ? 0 : (double) this.notModifiedCount / this.conditionalFetchCount;
+            }
+
+            /**
+             * Gets the estimated number of response bytes which didn't have to be downloaded because of 304 responses,
+             * based on the size of the last full response of each player.
+             *
+             * @return The saved bytes.
+             */
+            public long getBytesSaved() {
+                return this.bytesSaved;
+            }
+
+            /**
+             * Gets the number of times the snapshot could not be read or written.
+             *
+             * @return The number of failed snapshot reads and writes.
+             */
+            public long getSnapshotFailureCount() {
+                return this.snapshotFailureCount;
+            }
+
+            /**
+             * Gets the number of background task runs which failed with an exception.
+             *
+             * @return The number of failed background tasks.
+             */
+            public long getTaskFailureCount() {
+                return this.taskFailureCount;
+            }
+
+            @Override
+            public String toString() {
+                return "Stats{" +
+                        "hitCount=" + this.hitCount +
+                        ", missCount=" + this.missCount +
+                        ", evictionCount=" + this.evictionCount +
+                        ", fetchCount=" + this.fetchCount +
+                        ", coalescedFetchCount=" + this.coalescedFetchCount +
+                        ", batchCount=" + this.batchCount +
+                        ", batchedFetchCount=" + this.batchedFetchCount +
+                        ", totalBatchWaitTime=" + this.totalBatchWaitTime +
+                        ", conditionalFetchCount=" + this.conditionalFetchCount +
+                        ", notModifiedCount=" + this.notModifiedCount +
+                        ", bytesSaved=" + this.bytesSaved +
+                        ", snapshotFailureCount=" + this.snapshotFailureCount +
+                        ", taskFailureCount=" + this.taskFailureCount +
+                        '}';
+            }
+        }
+
         /**
          * Interface for custom cache interval options.
          */
@@ -621,16 +1766,153 @@ public class PlayerInfo<T> {
             /**
              * The interval in which the cache should be cleared automatically in milliseconds. If you want to disable automatic cache cleanup, pass -1.
              *
+             * @deprecated Clearing the whole cache at once drops every entry at the same time. Use {@link #getExpireAfterWrite()} instead.
              * @return The interval in which the cache is being cleared.
              */
-            long getCacheClearInterval();
+            @Deprecated
+            default long getCacheClearInterval() {
+                return -1;
+            }
 
             /**
              * The interval in which the cache should be renewed automatically in milliseconds. If you want to disable the automatic renewal of cache, pass -1.
              *
+             * @deprecated Renewing the whole cache at once sends one request per cached player in a single burst. Use {@link #getRefreshAfterWrite()} instead.
              * @return The interval in which the cache is being renewed.
              */
-            long getCacheRenewInterval();
+            @Deprecated
+            default long getCacheRenewInterval() {
+                return -1;
+            }
+
+            /**
+             * The time in milliseconds after which a cached player is refreshed. Until the refresh completes, the stale
+             * info is still returned. If you want to disable automatic refreshing, pass -1.
+             *
+             * @return The time after which a cached player is refreshed.
+             */
+            default long getRefreshAfterWrite() {
+                // Default is 5 minutes
+                return 1000 * 60 * 5;
+            }
+
+            /**
+             * The time in milliseconds after which a cached player expires and has to be fetched again. If you want
+             * cached players to never expire, pass -1.
+             *
+             * @return The time after which a cached player expires.
+             */
+            default long getExpireAfterWrite() {
+                // Default is 30 minutes
+                return 1000 * 60 * 30;
+            }
+
+            /**
+             * The time in milliseconds for which a player without GlobalTags data is cached before they are fetched
+             * again. If you don't want to cache unknown players, pass -1.
+             *
+             * @return The time for which unknown players are cached.
+             */
+            default long getNotFoundTtl() {
+                // Default is 5 minutes
+                return 1000 * 60 * 5;
+            }
+
+            /**
+             * The time in milliseconds for which a failed lookup is cached before the player is fetched again. If a
+             * stale info of the player is cached, it keeps being served until the lookup succeeds or the info expires.
+             * If you don't want to cache failed lookups, pass -1. A stale info is then refreshed again after
+             * {@link #getRefreshAfterWrite()}.
+             *
+             * @return The time for which failed lookups are cached.
+             */
+            default long getErrorTtl() {
+                // Default is 30 seconds
+                return 1000 * 30;
+            }
+
+            /**
+             * The maximum number of players kept in the cache. Once it is exceeded, the least frequently used players
+             * are evicted first. If you want to disable the size limit, pass -1.
+             *
+             * @return The maximum number of cached players.
+             */
+            default long getMaximumSize() {
+                // Default is 10,000 players
+                return 10_000;
+            }
+
+            /**
+             * The maximum number of background refreshes which are sent at the same time.
+             *
+             * @return The maximum number of concurrent refreshes.
+             */
+            default int getRefreshConcurrency() {
+                return 4;
+            }
+
+            /**
+             * The maximum number of background refreshes which are sent per second. If you want to disable the limit, pass -1.
+             *
+             * @return The maximum number of refreshes per second.
+             */
+            default double getRefreshRate() {
+                return 10;
+            }
+
+            /**
+             * The random jitter applied to {@link #getRefreshAfterWrite()} of each entry, as a fraction of the refresh
+             * interval. For example, {@code 0.1} refreshes entries between 90% and 110% of the interval.
+             *
+             * @return The refresh jitter between {@code 0} and {@code 1}.
+             */
+            default double getRefreshJitter() {
+                return 0.1;
+            }
+
+            /**
+             * The time in milliseconds fetches are collected before they are sent together. This trades a few
+             * milliseconds of latency for fewer concurrent requests when many players are fetched at once, for example
+             * when a lot of players join. If you want to send every fetch right away, pass -1.
+             *
+             * @return The batching window.
+             */
+            default long getBatchWindow() {
+                return -1;
+            }
+
+            /**
+             * The maximum number of fetches which are collected in one batch. A full batch is sent before its window
+             * has passed.
+             *
+             * @return The maximum batch size.
+             */
+            default int getMaximumBatchSize() {
+                return 100;
+            }
+
+            /**
+             * The file the cache is saved to, so it can be filled right away after a restart. The snapshot is loaded
+             * in the background when the cache is created, written every {@link #getSnapshotInterval()} and when the
+             * {@link GlobalTagsAPI} is closed. If you don't want the cache to be saved, pass null.
+             *
+             * @return The snapshot file.
+             */
+            @Nullable
+            default Path getSnapshotFile() {
+                return null;
+            }
+
+            /**
+             * The interval in which the {@link #getSnapshotFile()} is written in milliseconds. If you only want the
+             * snapshot to be written on shutdown, pass -1.
+             *
+             * @return The snapshot interval.
+             */
+            default long getSnapshotInterval() {
+                // Default is 5 minutes
+                return 1000 * 60 * 5;
+            }
         }
     }
 }
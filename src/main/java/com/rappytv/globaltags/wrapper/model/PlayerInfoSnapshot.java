@@ -0,0 +1,222 @@
+package com.rappytv.globaltags.wrapper.model;
+
+import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
+import com.rappytv.globaltags.wrapper.enums.GlobalPermission;
+import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Reads and writes the binary snapshot of a {@link PlayerInfo.Cache}. A snapshot contains the uuid, tag, position,
+ * icon, referral info, roles, permissions and ban of every player. Enums are stored by name, so snapshots stay readable
+ * when constants are added. Constants which were removed since are skipped or replaced, they never discard the snapshot.
+ */
+class PlayerInfoSnapshot {
+
+    private static final int MAGIC = 0x47545343; // GTSC
+    private static final int VERSION = 1;
+
+    /**
+     * Cannot be implemented
+     */
+    private PlayerInfoSnapshot() {}
+
+    /**
+     * Writes a snapshot. The snapshot is written to a temporary file first and then moved into place, so a crash
+     * while writing never leaves a broken snapshot behind.
+     *
+     * @param file    The snapshot file
+     * @param players The players to write
+     * @throws IOException If the snapshot could not be written
+     */
+    static void write(@NotNull Path file, @NotNull Collection<PlayerInfo<?>> players) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(players.size());
+            for (PlayerInfo<?> info : players) {
+                writeUUID(out, info.getUUID());
+                writeString(out, info.getPlainTag());
+                writeEnum(out, info.getPosition());
+                writeEnum(out, info.getGlobalIcon());
+                writeString(out, info.getGlobalIconHash());
+                PlayerInfo.ReferralInfo referralInfo = info.getReferralInfo();
+                if (referralInfo == null) referralInfo = PlayerInfo.ReferralInfo.EMPTY;
+                out.writeBoolean(referralInfo.hasReferred());
+                out.writeInt(referralInfo.getTotalReferrals());
+                out.writeInt(referralInfo.getCurrentMonthReferrals());
+                writeString(out, info.getRoleIcon());
+                out.writeBoolean(info.isRoleIconHidden());
+                out.writeInt(info.getRoles().size());
+                for (String role : info.getRoles()) {
+                    writeString(out, role);
+                }
+                out.writeInt(info.getPermissions().size());
+                for (GlobalPermission permission : info.getPermissions()) {
+                    writeEnum(out, permission);
+                }
+                BanInfo ban = info.getBanInfo();
+                out.writeBoolean(ban != null);
+                if (ban != null) {
+                    out.writeBoolean(ban.isAppealable());
+                    out.writeBoolean(ban.isAppealed());
+                    out.writeLong(ban.getBannedAt() != null ? ban.getBannedAt().getTime() : Long.MIN_VALUE);
+                    out.writeLong(ban.getExpiresAt() != null ? ban.getExpiresAt().getTime() : Long.MIN_VALUE);
+                    writeString(out, ban.getId());
+                    writeString(out, ban.getReason());
+                    writeUUID(out, ban.getStaff());
+                }
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a snapshot. The file is read into a heap buffer at once, so it can be replaced or deleted right afterwards,
+     * which a memory mapped file would prevent on some platforms.
+     *
+     * @param api  The {@link GlobalTagsAPI} the players are created for
+     * @param file The snapshot file
+     * @param <T>  The tag type of the API
+     * @return The players of the snapshot, or an empty list if the file doesn't exist
+     * @throws IOException If the snapshot could not be read or is broken
+     */
+    @NotNull
+    static <T> List<PlayerInfo<T>> read(@NotNull GlobalTagsAPI<T> api, @NotNull Path file) throws IOException {
+        if (!Files.isRegularFile(file)) return Collections.emptyList();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unsupported snapshot format");
+            }
+            int size = buffer.getInt();
+            if (size < 0) throw new IOException("Broken snapshot");
+            List<PlayerInfo<T>> players = new ArrayList<>(Math.min(size, 1 << 16));
+            for (int i = 0; i < size; i++) {
+                UUID uuid = readUUID(buffer);
+                String tag = readString(buffer);
+                String position = readString(buffer);
+                String icon = readString(buffer);
+                String iconHash = readString(buffer);
+                PlayerInfo.ReferralInfo referralInfo = new PlayerInfo.ReferralInfo(
+                        buffer.get() != 0,
+                        buffer.getInt(),
+                        buffer.getInt()
+                );
+                String roleIcon = readString(buffer);
+                boolean hideRoleIcon = buffer.get() != 0;
+                int roleCount = buffer.getInt();
+                List<String> roles = new ArrayList<>(Math.min(Math.max(0, roleCount), 64));
+                for (int j = 0; j < roleCount; j++) {
+                    roles.add(readString(buffer));
+                }
+                int permissionCount = buffer.getInt();
+                List<GlobalPermission> permissions = new ArrayList<>(Math.min(Math.max(0, permissionCount), 64));
+                for (int j = 0; j < permissionCount; j++) {
+                    String permission = readString(buffer);
+                    try {
+                        permissions.add(GlobalPermission.valueOf(permission));
+                    } catch (IllegalArgumentException ignored) {
+                        // The permission was removed since the snapshot was written
+                    }
+                }
+                BanInfo ban = null;
+                if (buffer.get() != 0) {
+                    boolean appealable = buffer.get() != 0;
+                    boolean appealed = buffer.get() != 0;
+                    long bannedAt = buffer.getLong();
+                    long expiresAt = buffer.getLong();
+                    ban = new BanInfo(
+                            appealable,
+                            appealed,
+                            bannedAt != Long.MIN_VALUE ? new Date(bannedAt) : null,
+                            expiresAt != Long.MIN_VALUE ? new Date(expiresAt) : null,
+                            readString(buffer),
+                            readString(buffer),
+                            readUUID(buffer)
+                    );
+                }
+                players.add(new PlayerInfo<>(
+                        api,
+                        uuid,
+                        tag,
+                        position != null ? position : GlobalPosition.ABOVE.name(),
+                        new PlayerInfo.Icon(readIcon(icon), iconHash),
+                        referralInfo,
+                        roleIcon,
+                        hideRoleIcon,
+                        roles,
+                        permissions,
+                        ban
+                ));
+            }
+            return players;
+        } catch (BufferUnderflowException | IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Broken snapshot", e);
+        }
+    }
+
+    @Nullable
+    private static GlobalIcon readIcon(@Nullable String icon) {
+        if (icon == null) return null;
+        try {
+            return GlobalIcon.valueOf(icon);
+        } catch (IllegalArgumentException ignored) {
+            // The icon was removed since the snapshot was written
+            return GlobalIcon.NONE;
+        }
+    }
+
+    private static void writeUUID(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUUID(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void writeEnum(DataOutputStream out, @Nullable Enum<?> value) throws IOException {
+        writeString(out, value != null ? value.name() : null);
+    }
+
+    private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nullable
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) return null;
+        if (length > buffer.remaining()) throw new BufferUnderflowException();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -2,6 +2,7 @@ package com.rappytv.globaltags.wrapper.model.adapters;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
 
@@ -16,6 +17,16 @@ public class GlobalPositionTypeAdapter extends TypeAdapter<GlobalPosition> {
 
     @Override
     public GlobalPosition read(JsonReader in) throws IOException {
-        return GlobalPosition.valueOf(in.nextString().toUpperCase());
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String position = in.nextString();
+        try {
+            return GlobalPosition.valueOf(position.toUpperCase());
+        } catch (IllegalArgumentException ignored) {
+            // Unknown positions are mapped to null, so consumers can apply their default
+            return null;
+        }
     }
 }
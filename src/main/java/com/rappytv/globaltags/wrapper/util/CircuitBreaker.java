@@ -0,0 +1,197 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A circuit breaker which stops sending requests to a server which keeps failing. After a number of consecutive
+ * failures the breaker opens and calls fail fast. Once the open duration has passed, a single probe call is let through
+ * (half open). If it succeeds the breaker closes again, otherwise it stays open for another open duration.
+ */
+public class CircuitBreaker {
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDuration;
+    private final Listener listener;
+    private final LongAdder rejected = new LongAdder();
+    private volatile State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private long probeStartedAt;
+    private boolean probing;
+
+    /**
+     * Creates a new circuit breaker
+     *
+     * @param name             The name of the breaker, for example the url of the guarded server
+     * @param failureThreshold The number of consecutive failures after which the breaker opens, or -1 to never open
+     * @param openDuration     The time in milliseconds the breaker stays open before a probe call is let through
+     * @param listener         The listener which is notified about state transitions
+     */
+    public CircuitBreaker(@NotNull String name, int failureThreshold, long openDuration, @NotNull Listener listener) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        if (openDuration < 0) throw new IllegalArgumentException("openDuration must not be negative");
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = TimeUnit.MILLISECONDS.toNanos(openDuration);
+        this.listener = listener;
+    }
+
+    /**
+     * Checks if a call may be made. Every permitted call has to be reported with {@link #recordSuccess()} or
+     * {@link #recordFailure()}.
+     *
+     * @return If the call may be made
+     */
+    public boolean tryAcquire() {
+        if (this.state == State.CLOSED) return true;
+        State previous;
+        synchronized (this) {
+            long now = System.nanoTime();
+            previous = this.state;
+            if (previous == State.CLOSED) return true;
+            boolean permitted = previous == State.OPEN
+                    ? now - this.openedAt >= this.openDuration
+                    // A probe which never reported back must not keep the breaker half open forever
+                    : !this.probing || now - this.probeStartedAt >= this.openDuration;
+            if (!permitted) {
+                this.rejected.increment();
+                return false;
+            }
+            this.state = State.HALF_OPEN;
+            this.probing = true;
+            this.probeStartedAt = now;
+        }
+        if (previous == State.OPEN) this.notify(State.OPEN, State.HALF_OPEN);
+        return true;
+    }
+
+    /**
+     * Reports that a call succeeded
+     */
+    public void recordSuccess() {
+        State previous;
+        synchronized (this) {
+            this.failures = 0;
+            this.probing = false;
+            previous = this.state;
+            if (previous == State.CLOSED) return;
+            this.state = State.CLOSED;
+        }
+        this.notify(previous, State.CLOSED);
+    }
+
+    /**
+     * Reports that a call failed
+     */
+    public void recordFailure() {
+        State previous;
+        synchronized (this) {
+            this.failures++;
+            this.probing = false;
+            previous = this.state;
+            if (previous == State.CLOSED && (this.failureThreshold < 1 || this.failures < this.failureThreshold)) return;
+            this.openedAt = System.nanoTime();
+            this.state = State.OPEN;
+        }
+        if (previous != State.OPEN) this.notify(previous, State.OPEN);
+    }
+
+    /**
+     * Notifies the listener about a state transition
+     *
+     * @param from The previous state
+     * @param to   The new state
+     */
+    private void notify(State from, State to) {
+        try {
+            this.listener.onStateChange(this, from, to);
+        } catch (Exception ignored) {
+        }
+    }
+
+    /**
+     * Gets the name of the breaker
+     *
+     * @return The name
+     */
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the current state of the breaker
+     *
+     * @return The state
+     */
+    @NotNull
+    public State getState() {
+        return this.state;
+    }
+
+    /**
+     * Checks if the breaker is currently not closed, which means the guarded server is considered unavailable
+     *
+     * @return If the breaker is open or half open
+     */
+    public boolean isOpen() {
+        return this.state != State.CLOSED;
+    }
+
+    /**
+     * Gets the number of calls which were rejected because the breaker was open
+     *
+     * @return The number of rejected calls
+     */
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+                "name='" + this.name + '\'' +
+                ", state=" + this.state +
+                '}';
+    }
+
+    /**
+     * The states of a circuit breaker
+     */
+    public enum State {
+        /**
+         * Calls are made as usual
+         */
+        CLOSED,
+        /**
+         * Calls fail fast
+         */
+        OPEN,
+        /**
+         * A single probe call is made to check if the server is available again
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * A listener which is notified when a circuit breaker changes its state
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called after the state of a circuit breaker changed
+         *
+         * @param breaker The circuit breaker
+         * @param from    The previous state
+         * @param to      The new state
+         */
+        void onStateChange(@NotNull CircuitBreaker breaker, @NotNull State from, @NotNull State to);
+    }
+}
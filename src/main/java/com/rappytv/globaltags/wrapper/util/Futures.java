@@ -0,0 +1,152 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Helpers for working with {@link CompletableFuture}s.
+ */
+public class Futures {
+
+    /**
+     * Cannot be implemented
+     */
+    private Futures() {}
+
+    /**
+     * Cancels a source future as soon as a future derived from it is cancelled or completed exceptionally from the
+     * outside, for example by {@link CompletableFuture#orTimeout}. Dependent futures created with
+     * {@link CompletableFuture#thenApply} and similar methods don't forward cancellation on their own.
+     *
+     * @param derived The future which is handed out
+     * @param source  The future the derived future depends on
+     * @param <R>     The result type of the derived future
+     * @return The derived future
+     */
+    @NotNull
+    public static <R> CompletableFuture<R> propagateCancellation(@NotNull CompletableFuture<R> derived, @NotNull Future<?> source) {
+        derived.whenComplete((result, throwable) -> {
+            if (throwable != null && !source.isDone()) source.cancel(true);
+        });
+        return derived;
+    }
+
+    /**
+     * Unwraps the exception which caused a future to fail
+     *
+     * @param throwable The exception a future was completed with
+     * @return The actual cause
+     */
+    @NotNull
+    public static Throwable unwrap(@NotNull Throwable throwable) {
+        while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * Runs an asynchronous task for every key, with at most the given number of tasks running at the same time.
+     * Duplicate keys are only run once. Cancelling the returned future stops starting new tasks and cancels the running
+     * ones.
+     *
+     * @param keys        The keys to run the task for
+     * @param concurrency The maximum number of tasks which run at the same time
+     * @param task        The task
+     * @param <K>         The key type
+     * @param <V>         The result type of the task
+     * @return A future which is completed with the results of all tasks in the iteration order of the keys, or
+     * exceptionally as soon as a task fails
+     */
+    @NotNull
+    public static <K, V> CompletableFuture<Map<K, V>> fanOut(@NotNull Collection<K> keys, int concurrency, @NotNull Function<K, CompletableFuture<V>> task) {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be at least 1");
+        FanOut<K, V> fanOut = new FanOut<>(new ArrayList<>(new LinkedHashSet<>(keys)), task);
+        if (fanOut.keys.isEmpty()) fanOut.result.complete(new LinkedHashMap<>());
+        for (int i = 0; i < concurrency && i < fanOut.keys.size(); i++) {
+            fanOut.run();
+        }
+        return fanOut.result;
+    }
+
+    private static class FanOut<K, V> {
+
+        private final List<K> keys;
+        private final Function<K, CompletableFuture<V>> task;
+        private final Object[] values;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final Set<CompletableFuture<V>> running = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<Map<K, V>> result = new CompletableFuture<>();
+
+        private FanOut(List<K> keys, Function<K, CompletableFuture<V>> task) {
+            this.keys = keys;
+            this.task = task;
+            this.values = new Object[keys.size()];
+            this.remaining = new AtomicInteger(keys.size());
+            this.result.whenComplete((map, throwable) -> {
+                if (throwable != null) this.running.forEach((future) -> future.cancel(true));
+            });
+        }
+
+        /**
+         * Runs tasks until one doesn't complete right away. Looping instead of recursing keeps the stack flat when
+         * many tasks complete synchronously.
+         */
+        private void run() {
+            int index;
+            while (!this.result.isDone() && (index = this.next.getAndIncrement()) < this.keys.size()) {
+                CompletableFuture<V> future;
+                try {
+                    future = this.task.apply(this.keys.get(index));
+                } catch (Exception e) {
+                    this.result.completeExceptionally(e);
+                    return;
+                }
+                if (!future.isDone() || future.isCompletedExceptionally()) {
+                    int pending = index;
+                    this.running.add(future);
+                    future.whenComplete((value, throwable) -> {
+                        this.running.remove(future);
+                        if (this.complete(pending, value, throwable)) this.run();
+                    });
+                    if (this.result.isDone()) future.cancel(true);
+                    return;
+                }
+                if (!this.complete(index, future.getNow(null), null)) return;
+            }
+        }
+
+        /**
+         * Stores the result of a task
+         *
+         * @return If more tasks should be started
+         */
+        @SuppressWarnings("unchecked")
+        private boolean complete(int index, V value, Throwable throwable) {
+            if (throwable != null) {
+                this.result.completeExceptionally(unwrap(throwable));
+                return false;
+            }
+            this.values[index] = value;
+            if (this.remaining.decrementAndGet() == 0) {
+                Map<K, V> map = new LinkedHashMap<>();
+                for (int i = 0; i < this.keys.size(); i++) {
+                    map.put(this.keys.get(i), (V) this.values[i]);
+                }
+                this.result.complete(map);
+                return false;
+            }
+            return true;
+        }
+    }
+}
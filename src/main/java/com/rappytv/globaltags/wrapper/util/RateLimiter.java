@@ -0,0 +1,140 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token bucket rate limiter. Permits which are not available right away are reserved in advance, so callers are
+ * queued in the order in which they asked instead of being rejected.
+ */
+public class RateLimiter {
+
+    private final ScheduledExecutorService scheduler;
+    private final double permitsPerSecond;
+    private final double burst;
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder pauses = new LongAdder();
+    private double tokens;
+    private long nextFree;
+    private volatile long pausedUntil;
+
+    /**
+     * Creates a new rate limiter which starts with a full bucket
+     *
+     * @param scheduler        The scheduler used to complete delayed permits
+     * @param permitsPerSecond The number of permits which are refilled per second, or
+     *                         {@link Double#POSITIVE_INFINITY} if only {@link #pause(long)} should delay permits
+     * @param burst            The maximum number of permits which can be acquired at once
+     */
+    public RateLimiter(@NotNull ScheduledExecutorService scheduler, double permitsPerSecond, int burst) {
+        Objects.requireNonNull(scheduler, "scheduler must not be null");
+        if (!(permitsPerSecond > 0)) throw new IllegalArgumentException("permitsPerSecond must be positive");
+        if (burst < 1) throw new IllegalArgumentException("burst must be at least 1");
+        this.scheduler = scheduler;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.nextFree = System.nanoTime();
+        this.pausedUntil = this.nextFree;
+    }
+
+    /**
+     * Acquires a single permit
+     *
+     * @return A future which is completed as soon as the permit is available. If the scheduler was shut down before
+     * the permit became available, the future is completed exceptionally with a {@link RejectedExecutionException}.
+     */
+    @NotNull
+    public CompletableFuture<Void> acquire() {
+        long delay = this.reserve();
+        if (delay <= 0) return CompletableFuture.completedFuture(null);
+
+        this.delayed.increment();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        this.release(future, delay);
+        return future;
+    }
+
+    /**
+     * Completes a delayed permit. If the limiter was paused in the meantime, a new permit is reserved instead.
+     *
+     * @param future The future of the permit
+     * @param delay  The time in nanoseconds until the permit is available
+     */
+    private void release(CompletableFuture<Void> future, long delay) {
+        try {
+            this.scheduler.schedule(() -> {
+                if (future.isDone()) return;
+                if (System.nanoTime() - this.pausedUntil < 0) {
+                    this.release(future, this.reserve());
+                    return;
+                }
+                future.complete(null);
+            }, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new RejectedExecutionException("The rate limiter is closed", e));
+        }
+    }
+
+    /**
+     * Reserves a single permit
+     *
+     * @return The time in nanoseconds until the permit is available
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        if (now - this.nextFree > 0) {
+            this.tokens = Math.min(this.burst, this.tokens + (now - this.nextFree) * this.permitsPerSecond / 1e9);
+            this.nextFree = now;
+        }
+        long wait = this.nextFree - now;
+        if (this.tokens >= 1) {
+            this.tokens--;
+        } else {
+            this.nextFree += (long) ((1 - this.tokens) / this.permitsPerSecond * 1e9);
+            this.tokens = 0;
+        }
+        return wait;
+    }
+
+    /**
+     * Stops handing out permits for the given time, for example because the server asked to retry later. Permits
+     * which are already reserved but not yet handed out are delayed as well. Afterwards the bucket starts empty.
+     *
+     * @param nanos The time in nanoseconds
+     */
+    public synchronized void pause(long nanos) {
+        if (nanos <= 0) return;
+        long until = System.nanoTime() + nanos;
+        this.pauses.increment();
+        if (until - this.pausedUntil > 0) this.pausedUntil = until;
+        if (until - this.nextFree > 0) {
+            this.nextFree = until;
+            this.tokens = 0;
+        }
+    }
+
+    /**
+     * Gets the number of permits which could not be granted right away
+     *
+     * @return The number of delayed permits
+     */
+    public long getDelayedCount() {
+        return this.delayed.sum();
+    }
+
+    /**
+     * Gets the number of times the limiter was paused
+     *
+     * @return The number of pauses
+     */
+    public long getPauseCount() {
+        return this.pauses.sum();
+    }
+}
@@ -0,0 +1,87 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of retries within a time window, so a longer outage doesn't multiply the load on the API. Also
+ * keeps track of the retries for monitoring.
+ */
+public class RetryBudget {
+
+    private final int maxRetries;
+    private final long window;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private long windowStart;
+    private int used;
+
+    /**
+     * Creates a new retry budget
+     *
+     * @param maxRetries The number of retries which are allowed per window
+     * @param window     The length of a window in milliseconds
+     */
+    public RetryBudget(int maxRetries, long window) {
+        if (maxRetries < 0) throw new IllegalArgumentException("maxRetries must not be negative");
+        if (window <= 0) throw new IllegalArgumentException("window must be positive");
+        this.maxRetries = maxRetries;
+        this.window = TimeUnit.MILLISECONDS.toNanos(window);
+        this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * Takes a retry from the budget
+     *
+     * @return If the budget allows another retry
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (now - this.windowStart >= this.window) {
+            this.windowStart = now;
+            this.used = 0;
+        }
+        if (this.used >= this.maxRetries) {
+            this.exhausted.increment();
+            return false;
+        }
+        this.used++;
+        this.retries.increment();
+        return true;
+    }
+
+    /**
+     * Records that a request succeeded after it was retried
+     */
+    public void recordRecovery() {
+        this.recovered.increment();
+    }
+
+    /**
+     * Gets the number of retries which were sent
+     *
+     * @return The number of retries
+     */
+    public long getRetryCount() {
+        return this.retries.sum();
+    }
+
+    /**
+     * Gets the number of requests which succeeded after they were retried
+     *
+     * @return The number of recovered requests
+     */
+    public long getRecoveredCount() {
+        return this.recovered.sum();
+    }
+
+    /**
+     * Gets the number of retries which were skipped because the budget was used up
+     *
+     * @return The number of skipped retries
+     */
+    public long getExhaustedCount() {
+        return this.exhausted.sum();
+    }
+}
@@ -0,0 +1,131 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of translated tags keyed by the plain tag. Players who share a tag, and renewals which return an
+ * unchanged tag, reuse the same translation instead of translating it again. The least recently used translations
+ * are evicted first. Translations are shared between players, so they must not be modified.
+ *
+ * @param <T> The translated type
+ */
+public class TranslationCache<T> {
+
+    private final Function<String, T> translator;
+    private final int maximumSize;
+    private final Map<String, T> translations;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new translation cache
+     *
+     * @param translator  The function which translates a plain tag
+     * @param maximumSize The maximum number of cached translations, or -1 to not cache translations at all
+     */
+    public TranslationCache(@NotNull Function<String, T> translator, int maximumSize) {
+        Objects.requireNonNull(translator, "translator must not be null");
+        this.translator = translator;
+        this.maximumSize = maximumSize;
+        this.translations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                if (this.size() <= TranslationCache.this.maximumSize) return false;
+                TranslationCache.this.evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Translates a plain tag, using the cached translation if there is one
+     *
+     * @param tag The plain tag
+     * @return The translated tag
+     */
+    public T translate(@Nullable String tag) {
+        if (tag == null || this.maximumSize < 1) return this.translator.apply(tag);
+        synchronized (this.translations) {
+            T translation = this.translations.get(tag);
+            if (translation != null) {
+                this.hits.increment();
+                return translation;
+            }
+        }
+        // Translate outside of the lock, a concurrent translation of the same tag only costs a duplicate translation
+        this.misses.increment();
+        T translation = this.translator.apply(tag);
+        if (translation != null) {
+            synchronized (this.translations) {
+                this.translations.put(tag, translation);
+            }
+        }
+        return translation;
+    }
+
+    /**
+     * Removes all cached translations, for example after the color code format changed
+     */
+    public void clear() {
+        synchronized (this.translations) {
+            this.translations.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached translations
+     *
+     * @return The number of cached translations
+     */
+    public int size() {
+        synchronized (this.translations) {
+            return this.translations.size();
+        }
+    }
+
+    /**
+     * Gets the number of translations which were served from the cache
+     *
+     * @return The number of cache hits
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Gets the number of tags which had to be translated
+     *
+     * @return The number of cache misses
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Gets the number of translations which were evicted because the cache was full
+     *
+     * @return The number of evicted translations
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Gets the share of translations which were served from the cache
+     *
+     * @return The hit rate between {@code 0} and {@code 1}
+     */
+    public double getHitRate() {
+        long hits = this.hits.sum();
+        long total = hits + this.misses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
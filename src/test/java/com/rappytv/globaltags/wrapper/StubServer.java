@@ -0,0 +1,122 @@
+package com.rappytv.globaltags.wrapper;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local http server which answers player info requests with the tags set through {@link #setTag(UUID, String)}.
+ * Other requests can be answered with a custom {@link Handler}.
+ */
+public class StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<UUID, String> tags = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile Handler handler = this::players;
+    private volatile long delay;
+
+    public StubServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", (exchange) -> {
+            this.requests.incrementAndGet();
+            try {
+                if (this.delay > 0) Thread.sleep(this.delay);
+                this.handler.handle(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    @NotNull
+    public String getUrl() {
+        return "http://" + this.server.getAddress().getHostString() + ":" + this.server.getAddress().getPort();
+    }
+
+    public void setTag(@NotNull UUID uuid, @Nullable String tag) {
+        if (tag == null) this.tags.remove(uuid);
+        else this.tags.put(uuid, tag);
+    }
+
+    @Nullable
+    public String getTag(@NotNull UUID uuid) {
+        return this.tags.get(uuid);
+    }
+
+    public void setHandler(@NotNull Handler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Delays every response
+     *
+     * @param delay The delay in milliseconds
+     */
+    public void setDelay(long delay) {
+        this.delay = delay;
+    }
+
+    public int getRequestCount() {
+        return this.requests.get();
+    }
+
+    /**
+     * Answers {@code GET /players/<uuid>} with the tag of the player, or 404 if the player has no tag
+     */
+    private void players(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (!path.startsWith("/players/")) {
+            respond(exchange, 404, "{\"error\":\"Not found\"}");
+            return;
+        }
+        String tag = this.tags.get(UUID.fromString(path.substring("/players/".length())));
+        if (tag == null) {
+            respond(exchange, 404, "{\"error\":\"Player not found\"}");
+            return;
+        }
+        respond(exchange, 200, playerJson(tag));
+    }
+
+    @NotNull
+    public static String playerJson(@NotNull String tag) {
+        return "{\"tag\":\"" + tag + "\",\"position\":\"above\",\"icon\":{\"type\":\"none\",\"hash\":null},"
+                + "\"referrals\":{\"has_referred\":false,\"total_referrals\":0,\"current_month_referrals\":0},"
+                + "\"roleIcon\":null,\"hideRoleIcon\":false,\"roles\":[],\"permissions\":[],\"ban\":null}";
+    }
+
+    public static void respond(@NotNull HttpExchange exchange, int status, @Nullable String body) throws IOException {
+        byte[] bytes = body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) exchange.getResponseBody().write(bytes);
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void handle(@NotNull HttpExchange exchange) throws IOException;
+    }
+}
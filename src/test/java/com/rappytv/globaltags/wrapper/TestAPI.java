@@ -0,0 +1,58 @@
+package com.rappytv.globaltags.wrapper;
+
+import com.rappytv.globaltags.wrapper.enums.AuthProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * A minimal {@link GlobalTagsAPI} which talks to a {@link StubServer}
+ */
+public class TestAPI extends GlobalTagsAPI<String> {
+
+    private final Urls urls;
+
+    public TestAPI(@NotNull StubServer server) {
+        this(server.getUrl());
+    }
+
+    public TestAPI(@NotNull String apiBase) {
+        this.urls = new Urls() {
+            @Override
+            public @NotNull String getApiBase() {
+                return apiBase;
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Urls getUrls() {
+        return this.urls;
+    }
+
+    @Override
+    public @NotNull Agent getAgent() {
+        return new Agent("Test", "1.0.0");
+    }
+
+    @Override
+    public @NotNull String translateColorCodes(@Nullable String input) {
+        return "translated:" + input;
+    }
+
+    @Override
+    public @Nullable UUID getClientUUID() {
+        return null;
+    }
+
+    @Override
+    public @NotNull AuthProvider getAuthType() {
+        return AuthProvider.values()[0];
+    }
+
+    @Override
+    public @Nullable String getAuthorization() {
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.rappytv.globaltags.wrapper.benchmark;
+
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.http.ApiResponse;
+import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares looking up many players one request after another with {@code ApiHandler#getInfos}, against a local stub
+ * server which answers every request with a small delay
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchLookupBenchmark {
+
+    @Param("64")
+    public int players;
+
+    @Param("2")
+    public long delay;
+
+    private StubServer server;
+    private TestAPI api;
+    private List<UUID> uuids;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server = new StubServer();
+        this.server.setDelay(this.delay);
+        this.api = new TestAPI(this.server) {
+            private final HttpOptions options = new HttpOptions() {
+                @Override
+                public double getRequestRate() {
+                    return -1;
+                }
+            };
+
+            @Override
+            public @NotNull HttpOptions getHttpOptions() {
+                return this.options;
+            }
+        };
+        this.uuids = new ArrayList<>();
+        for (int i = 0; i < this.players; i++) {
+            UUID uuid = new UUID(0, i);
+            this.server.setTag(uuid, "Player " + i);
+            this.uuids.add(uuid);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.api.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    public List<ApiResponse<PlayerInfo<String>>> sequential() {
+        List<ApiResponse<PlayerInfo<String>>> responses = new ArrayList<>(this.uuids.size());
+        for (UUID uuid : this.uuids) {
+            responses.add(this.api.getApiHandler().getInfo(uuid).join());
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public Map<UUID, ApiResponse<PlayerInfo<String>>> batch() {
+        return this.api.getApiHandler().getInfos(this.uuids).join();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void batchIsFasterThanSequentialLookups() throws Exception {
+        Collection<RunResult> results = Benchmarks.run(BatchLookupBenchmark.class);
+        double sequential = Benchmarks.score(results, "sequential");
+        double batch = Benchmarks.score(results, "batch");
+        assertTrue(batch * 2 < sequential, () -> "batch took " + batch + " ms/op, sequential " + sequential + " ms/op");
+    }
+}
@@ -0,0 +1,76 @@
+package com.rappytv.globaltags.wrapper.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the JMH benchmarks of a class from a test. Benchmarks are tagged {@code benchmark} and only run with the
+ * {@code benchmark} maven profile: {@code mvn test -Pbenchmark}
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {}
+
+    /**
+     * Runs all benchmarks of a class in one fork with the {@link GCProfiler}, so the allocation per operation is
+     * reported next to the score
+     *
+     * @param benchmark The class containing the benchmarks
+     * @return The results of all benchmarks
+     * @throws RunnerException If the benchmarks could not be run
+     */
+    @NotNull
+    public static Collection<RunResult> run(@NotNull Class<?> benchmark) throws RunnerException {
+        return new Runner(new OptionsBuilder()
+                .include(Pattern.quote(benchmark.getName()) + "\\.")
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+
+    /**
+     * Gets the score of a benchmark
+     *
+     * @param results The results of {@link #run(Class)}
+     * @param method  The name of the benchmark method
+     * @return The primary score of the benchmark
+     */
+    public static double score(@NotNull Collection<RunResult> results, @NotNull String method) {
+        return find(results, method).getPrimaryResult().getScore();
+    }
+
+    /**
+     * Gets the bytes a benchmark allocated per operation
+     *
+     * @param results The results of {@link #run(Class)}
+     * @param method  The name of the benchmark method
+     * @return The normalized allocation rate of the benchmark
+     */
+    public static double allocation(@NotNull Collection<RunResult> results, @NotNull String method) {
+        Result<?> result = find(results, method).getSecondaryResults().get("gc.alloc.rate.norm");
+        if (result == null) throw new IllegalStateException("No allocation was recorded for " + method);
+        return result.getScore();
+    }
+
+    @NotNull
+    private static RunResult find(Collection<RunResult> results, String method) {
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().endsWith("." + method)) return result;
+        }
+        throw new IllegalArgumentException("No result for " + method);
+    }
+}
@@ -0,0 +1,157 @@
+package com.rappytv.globaltags.wrapper.benchmark;
+
+import com.rappytv.globaltags.wrapper.http.MultipartData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the allocation of a multipart upload which reads the whole file into a byte array, like
+ * {@link MultipartData} did, with the streamed body it builds now. The streamed body only holds the part headers, so
+ * building it allocates the same whatever the file size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultipartUploadBenchmark {
+
+    private static final String BOUNDARY = "-----benchmark";
+
+    @Param({"262144", "4194304"})
+    public int size;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] bytes = new byte[this.size];
+        new Random(0).nextBytes(bytes);
+        this.file = Files.createTempFile("multipart-benchmark", ".png");
+        Files.write(this.file, bytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public HttpRequest.BodyPublisher buildBuffered() throws IOException {
+        return buffered(this.file);
+    }
+
+    @Benchmark
+    public HttpRequest.BodyPublisher buildStreamed() throws IOException {
+        return streamed(this.file);
+    }
+
+    @Benchmark
+    public long sendBuffered() throws Exception {
+        return drain(buffered(this.file));
+    }
+
+    @Benchmark
+    public long sendStreamed() throws Exception {
+        return drain(streamed(this.file));
+    }
+
+    /**
+     * Builds the body like {@link MultipartData} did before it was streamed
+     */
+    private static HttpRequest.BodyPublisher buffered(Path file) throws IOException {
+        byte[] newline = "\r\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("--" + BOUNDARY).getBytes(StandardCharsets.UTF_8));
+        out.write(newline);
+        out.write(("Content-Disposition: form-data; name=\"icon\"; filename=\"" + file.getFileName() + "\"").getBytes(StandardCharsets.UTF_8));
+        out.write(newline);
+        out.write("Content-Type: image/png".getBytes(StandardCharsets.UTF_8));
+        out.write(newline);
+        out.write(newline);
+        out.write(Files.readAllBytes(file));
+        out.write(newline);
+        out.write(("--" + BOUNDARY + "--").getBytes(StandardCharsets.UTF_8));
+        return HttpRequest.BodyPublishers.ofByteArray(out.toByteArray());
+    }
+
+    private static HttpRequest.BodyPublisher streamed(Path file) throws IOException {
+        return MultipartData.newBuilder()
+                .addFile("icon", file, "image/png")
+                .build()
+                .getBodyPublisher();
+    }
+
+    /**
+     * Reads a body like the http client does when it is sent
+     */
+    private static long drain(HttpRequest.BodyPublisher publisher) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        long[] length = new long[1];
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                length[0] += buffer.remaining();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+        done.await();
+        return length[0];
+    }
+
+    @Test
+    @Tag("benchmark")
+    void streamedBodyAllocatesIndependentlyOfTheFileSize() throws Exception {
+        Collection<RunResult> results = Benchmarks.run(MultipartUploadBenchmark.class);
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            int size = Integer.parseInt(result.getParams().getParam("size"));
+            Result<?> allocation = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            if (benchmark.endsWith(".buildStreamed")) {
+                assertTrue(allocation.getScore() < 16 * 1024, () -> "Building a streamed body of " + size + " bytes allocated " + allocation.getScore() + " B/op");
+            } else if (benchmark.endsWith(".sendBuffered")) {
+                double streamed = streamedSend(results, size);
+                assertTrue(streamed < allocation.getScore(), () -> "Sending a streamed body of " + size + " bytes allocated " + streamed + " B/op, a buffered one " + allocation.getScore() + " B/op");
+            }
+        }
+    }
+
+    private static double streamedSend(Collection<RunResult> results, int size) {
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().endsWith(".sendStreamed") && Integer.parseInt(result.getParams().getParam("size")) == size) {
+                return result.getSecondaryResults().get("gc.alloc.rate.norm").getScore();
+            }
+        }
+        throw new IllegalArgumentException("No result for sendStreamed with size " + size);
+    }
+}
@@ -0,0 +1,84 @@
+package com.rappytv.globaltags.wrapper.benchmark;
+
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
+import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the accessors which are called per player on every rendered frame. None of them may allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerInfoAccessorBenchmark {
+
+    private static final String[] ACCESSORS = {"getPosition", "getGlobalIcon", "getTag", "getIconUrl"};
+
+    private TestAPI api;
+    private PlayerInfo<String> info;
+
+    @Setup
+    public void setUp() {
+        this.api = new TestAPI("http://localhost");
+        this.info = new PlayerInfo<>(
+                this.api,
+                new UUID(0, 1),
+                "&aTag",
+                "below",
+                new PlayerInfo.Icon(GlobalIcon.values()[1], null),
+                null,
+                null,
+                false,
+                List.of(),
+                List.of(),
+                null
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.api.close();
+    }
+
+    @Benchmark
+    public void getPosition(Blackhole blackhole) {
+        blackhole.consume(this.info.getPosition());
+    }
+
+    @Benchmark
+    public void getGlobalIcon(Blackhole blackhole) {
+        blackhole.consume(this.info.getGlobalIcon());
+    }
+
+    @Benchmark
+    public void getTag(Blackhole blackhole) {
+        blackhole.consume(this.info.getTag());
+    }
+
+    @Benchmark
+    public void getIconUrl(Blackhole blackhole) {
+        blackhole.consume(this.info.getIconUrl());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void accessorsDoNotAllocate() throws Exception {
+        Collection<RunResult> results = Benchmarks.run(PlayerInfoAccessorBenchmark.class);
+        for (String accessor : ACCESSORS) {
+            double allocation = Benchmarks.allocation(results, accessor);
+            assertTrue(allocation < 1, () -> accessor + " allocated " + allocation + " B/op");
+        }
+    }
+}
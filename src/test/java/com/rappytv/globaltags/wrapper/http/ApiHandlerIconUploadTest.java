@@ -0,0 +1,181 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.http.schemas.IconUploadSchema;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiHandlerIconUploadTest {
+
+    @TempDir
+    Path dir;
+    private StubServer server;
+    private ExecutorService worker;
+    private TestAPI api;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = new StubServer();
+        this.worker = Executors.newSingleThreadExecutor();
+        this.api = this.api(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.api.close();
+        this.worker.shutdownNow();
+        this.server.close();
+    }
+
+    @Test
+    void invalidIconFailsWithoutRequest() throws Exception {
+        Path file = this.dir.resolve("icon.png");
+        Files.write(file, new byte[]{1, 2, 3});
+        ApiResponse<IconUploadSchema> response = this.api.getApiHandler()
+                .uploadIcon(new UUID(0, 1), file)
+                .get(10, TimeUnit.SECONDS);
+        assertFalse(response.isSuccessful());
+        assertNotNull(response.getError());
+        assertEquals(0, this.server.getRequestCount());
+    }
+
+    @Test
+    void missingFileIsThrown() {
+        assertThrows(NoSuchFileException.class, () -> this.api.getApiHandler().uploadIcon(new UUID(0, 1), this.dir.resolve("missing.png")));
+    }
+
+    @Test
+    void closedApiFailsWithoutRequest() throws Exception {
+        Path file = this.dir.resolve("icon.png");
+        Files.write(file, new byte[]{1, 2, 3});
+        this.worker.shutdown();
+        ApiResponse<IconUploadSchema> response = this.api.getApiHandler()
+                .uploadIcon(new UUID(0, 1), file)
+                .get(10, TimeUnit.SECONDS);
+        assertFalse(response.isSuccessful());
+        assertEquals(0, this.server.getRequestCount());
+    }
+
+    @Test
+    void uploadHistorySurvivesRestart() throws Exception {
+        UUID uuid = new UUID(0, 1);
+        Path history = this.dir.resolve("uploads.txt");
+        Path file = this.dir.resolve("icon.png");
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(3, 4, 0xFFFF0000);
+        ImageIO.write(image, "png", file.toFile());
+        AtomicReference<String> icon = new AtomicReference<>();
+        AtomicInteger uploads = new AtomicInteger();
+        this.server.setHandler((exchange) -> {
+            if (exchange.getRequestMethod().equals("POST")) {
+                exchange.getRequestBody().readAllBytes();
+                uploads.incrementAndGet();
+                // The API hashes icons differently than the preprocessor
+                icon.set("api-hash");
+                StubServer.respond(exchange, 200, "{\"message\":\"Uploaded\",\"hash\":\"api-hash\"}");
+                return;
+            }
+            String type = icon.get() != null ? "custom" : "none";
+            String hash = icon.get() != null ? "\"" + icon.get() + "\"" : "null";
+            StubServer.respond(exchange, 200, StubServer.playerJson("tag").replace("{\"type\":\"none\",\"hash\":null}", "{\"type\":\"" + type + "\",\"hash\":" + hash + "}"));
+        });
+
+        TestAPI first = this.api(history);
+        try {
+            ApiResponse<IconUploadSchema> response = first.getApiHandler().uploadIconIfChanged(uuid, file).get(10, TimeUnit.SECONDS);
+            assertTrue(response.isSuccessful());
+            assertFalse(response.isSkipped());
+            assertEquals(1, uploads.get());
+        } finally {
+            first.close();
+        }
+
+        TestAPI restarted = this.api(history);
+        try {
+            ApiResponse<IconUploadSchema> response = restarted.getApiHandler().uploadIconIfChanged(uuid, file).get(10, TimeUnit.SECONDS);
+            assertTrue(response.isSuccessful());
+            assertTrue(response.isSkipped());
+            assertFalse(response.isNotModified());
+            assertEquals("api-hash", response.getData().getHash());
+            assertEquals(1, uploads.get());
+        } finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    void unchangedPngIsUploadedFromFile() throws Exception {
+        Path file = this.dir.resolve("icon.png");
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(3, 4, 0xFFFF0000);
+        ImageIO.write(image, "png", file.toFile());
+        // A png which the preprocessor encoded itself can't get any smaller, so it is uploaded unchanged
+        IconPreprocessor.ProcessedIcon encoded = this.api.getIconPreprocessor().process(file);
+        if (encoded.getData() != null) Files.write(file, encoded.getData());
+        byte[] original = Files.readAllBytes(file);
+
+        IconPreprocessor.ProcessedIcon icon = this.api.getIconPreprocessor().process(file);
+        assertEquals(file, icon.getSource());
+        assertNull(icon.getData());
+        AtomicReference<byte[]> body = new AtomicReference<>();
+        this.server.setHandler((exchange) -> {
+            if (exchange.getRequestMethod().equals("POST")) {
+                body.set(exchange.getRequestBody().readAllBytes());
+                StubServer.respond(exchange, 200, "{\"message\":\"Uploaded\",\"hash\":\"api-hash\"}");
+                return;
+            }
+            StubServer.respond(exchange, 200, StubServer.playerJson("tag"));
+        });
+        ApiResponse<IconUploadSchema> response = this.api.getApiHandler().uploadIcon(new UUID(0, 1), file).get(10, TimeUnit.SECONDS);
+        assertTrue(response.isSuccessful());
+        assertTrue(new String(body.get(), StandardCharsets.ISO_8859_1).contains(new String(original, StandardCharsets.ISO_8859_1)));
+    }
+
+    private TestAPI api(Path historyFile) {
+        return new TestAPI(this.server) {
+            private final HttpOptions options = new HttpOptions() {
+                @Override
+                public Executor getWorkerExecutor() {
+                    return ApiHandlerIconUploadTest.this.worker;
+                }
+            };
+            private final IconPreprocessor preprocessor = new IconPreprocessor(new IconPreprocessor.Options() {
+                @Override
+                public Path getUploadHistoryFile() {
+                    return historyFile;
+                }
+            });
+
+            @Override
+            public @NotNull GlobalTagsAPI.HttpOptions getHttpOptions() {
+                return this.options;
+            }
+
+            @Override
+            public @NotNull IconPreprocessor getIconPreprocessor() {
+                return this.preprocessor;
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiRequestRetryTest {
+
+    private StubServer server;
+    private TestAPI api;
+    private int retryBudget = 50;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = new StubServer();
+        Routes.setRetryPolicy("GET", "/players/{uuid}", new RetryPolicy(3, 1, 10));
+        this.api = this.api();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Routes.setRetryPolicy("GET", "/players/{uuid}", null);
+        this.api.close();
+        this.server.close();
+    }
+
+    @Test
+    void failedGetIsRetried() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        this.server.setHandler((exchange) -> {
+            if (requests.incrementAndGet() < 3) {
+                StubServer.respond(exchange, 503, null);
+                return;
+            }
+            StubServer.respond(exchange, 200, StubServer.playerJson("tag"));
+        });
+        ApiResponse<PlayerInfo<String>> response = this.api.getApiHandler().getInfo(new UUID(0, 1)).get(10, TimeUnit.SECONDS);
+        assertTrue(response.isSuccessful());
+        assertEquals(3, requests.get());
+        assertEquals(2, this.api.getRetryBudget().getRetryCount());
+        assertEquals(1, this.api.getRetryBudget().getRecoveredCount());
+    }
+
+    @Test
+    void postIsNotRetried() throws Exception {
+        this.server.setHandler((exchange) -> StubServer.respond(exchange, 503, null));
+        ApiResponse<String> response = this.api.getApiHandler().setTag(new UUID(0, 1), "tag").get(10, TimeUnit.SECONDS);
+        assertFalse(response.isSuccessful());
+        assertEquals(503, response.getStatusCode());
+        assertEquals(1, this.server.getRequestCount());
+        assertEquals(0, this.api.getRetryBudget().getRetryCount());
+    }
+
+    @Test
+    void retriesStopOnceBudgetIsSpent() throws Exception {
+        this.api.close();
+        this.retryBudget = 1;
+        this.api = this.api();
+        this.server.setHandler((exchange) -> StubServer.respond(exchange, 503, null));
+        ApiResponse<PlayerInfo<String>> response = this.api.getApiHandler().getInfo(new UUID(0, 1)).get(10, TimeUnit.SECONDS);
+        assertFalse(response.isSuccessful());
+        // The policy allows 3 retries, but the budget only one
+        assertEquals(2, this.server.getRequestCount());
+        assertEquals(1, this.api.getRetryBudget().getRetryCount());
+        assertEquals(1, this.api.getRetryBudget().getExhaustedCount());
+    }
+
+    @Test
+    void retryAfterIsParsed() throws Exception {
+        assertEquals(TimeUnit.SECONDS.toNanos(30), ApiRequest.getRetryAfter(this.retryAfter("30"), 1000));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), ApiRequest.getRetryAfter(this.retryAfter(null), 1000));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), ApiRequest.getRetryAfter(this.retryAfter("soon"), 1000));
+
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60));
+        long delay = ApiRequest.getRetryAfter(this.retryAfter(date), 1000);
+        assertTrue(delay > TimeUnit.SECONDS.toNanos(50) && delay <= TimeUnit.SECONDS.toNanos(60), () -> "Unexpected delay " + delay);
+    }
+
+    private HttpResponse<Void> retryAfter(String header) throws Exception {
+        this.server.setHandler((exchange) -> {
+            if (header != null) exchange.getResponseHeaders().add("Retry-After", header);
+            StubServer.respond(exchange, 429, null);
+        });
+        return HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(this.server.getUrl() + "/")).build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+    }
+
+    private TestAPI api() {
+        int retryBudget = this.retryBudget;
+        return new TestAPI(this.server) {
+            private final HttpOptions options = new HttpOptions() {
+                @Override
+                public int getRetryBudget() {
+                    return retryBudget;
+                }
+            };
+
+            @Override
+            public @NotNull GlobalTagsAPI.HttpOptions getHttpOptions() {
+                return this.options;
+            }
+        };
+    }
+}
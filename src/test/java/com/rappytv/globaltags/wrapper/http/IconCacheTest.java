@@ -0,0 +1,165 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
+import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
+import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IconCacheTest {
+
+    @TempDir
+    Path dir;
+    private StubServer server;
+    private TestAPI api;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = new StubServer();
+        this.api = new TestAPI(this.server) {
+            private final Urls urls = new Urls() {
+                @Override
+                public @NotNull String getApiBase() {
+                    return IconCacheTest.this.server.getUrl();
+                }
+
+                @Override
+                public @NotNull String getRoleIcon(String role) {
+                    return this.getApiBase() + "/roles/" + role + ".png";
+                }
+            };
+            private final HttpOptions options = new HttpOptions() {
+                @Override
+                public long getDefaultRetryAfter() {
+                    return 0;
+                }
+            };
+
+            @Override
+            public @NotNull Urls getUrls() {
+                return this.urls;
+            }
+
+            @Override
+            public @NotNull GlobalTagsAPI.HttpOptions getHttpOptions() {
+                return this.options;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.api.close();
+        this.server.close();
+    }
+
+    @Test
+    void roleIconIsRevalidated() throws Exception {
+        AtomicReference<String> image = new AtomicReference<>("v1");
+        this.server.setHandler((exchange) -> {
+            byte[] bytes = image.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        });
+        IconCache cache = new IconCache(this.api, new IconCache.Options() {
+            @Override
+            public Path getDirectory() {
+                return IconCacheTest.this.dir;
+            }
+
+            @Override
+            public long getRevalidateAfter() {
+                return 0;
+            }
+        });
+        assertEquals("v1", string(cache.getRoleIcon("admin").get(10, TimeUnit.SECONDS)));
+
+        image.set("v2");
+        // The stale icon is returned while it is downloaded again
+        assertEquals("v1", string(cache.getRoleIcon("admin").get(10, TimeUnit.SECONDS)));
+        await(() -> "v2".equals(string(cache.getRoleIcon("admin").join())));
+        assertTrue(cache.getRevalidationCount() >= 1);
+        assertEquals("v2", Files.readString(this.dir.resolve("role-admin.png")));
+    }
+
+    @Test
+    void orphanedTemporaryFilesAreDeleted() throws Exception {
+        Path orphan = this.dir.resolve("role-admin123.tmp");
+        Files.write(orphan, new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(orphan, FileTime.fromMillis(System.currentTimeMillis() - 60000));
+        Files.write(this.dir.resolve("role-admin.png"), new byte[]{4, 5});
+
+        IconCache cache = new IconCache(this.api, new IconCache.Options() {
+            @Override
+            public Path getDirectory() {
+                return IconCacheTest.this.dir;
+            }
+        });
+        assertEquals(2, cache.getDiskSize());
+        assertFalse(Files.exists(orphan));
+    }
+
+    @Test
+    void retryAfterIsHonored() throws Exception {
+        this.server.setHandler((exchange) -> {
+            exchange.getResponseHeaders().add("Retry-After", "30");
+            StubServer.respond(exchange, 429, null);
+        });
+        IconCache cache = new IconCache(this.api);
+        assertNull(cache.getCustomIcon(new UUID(0, 1), "hash").get(10, TimeUnit.SECONDS));
+        assertEquals(1, this.api.getRateLimiter().getPauseCount());
+        assertFalse(this.api.getRateLimiter().acquire().isDone());
+    }
+
+    @Test
+    void playerWithoutIconHasNoImage() throws Exception {
+        IconCache cache = new IconCache(this.api);
+        for (GlobalIcon icon : new GlobalIcon[]{null, GlobalIcon.NONE}) {
+            PlayerInfo<String> info = new PlayerInfo<>(
+                    this.api,
+                    new UUID(0, 1),
+                    "Tag",
+                    GlobalPosition.ABOVE,
+                    new PlayerInfo.Icon(icon, null),
+                    null,
+                    null,
+                    false,
+                    List.of(),
+                    List.of(),
+                    null
+            );
+            assertNull(cache.getIcon(info).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, this.server.getRequestCount());
+    }
+
+    private static String string(byte[] bytes) {
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out");
+            Thread.sleep(10);
+        }
+    }
+}
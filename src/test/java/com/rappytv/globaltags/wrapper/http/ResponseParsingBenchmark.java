@@ -0,0 +1,71 @@
+package com.rappytv.globaltags.wrapper.http;
+
+import com.google.gson.stream.JsonReader;
+import com.rappytv.globaltags.wrapper.benchmark.Benchmarks;
+import com.rappytv.globaltags.wrapper.model.PlayerReport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares parsing a large response from a buffered string, like {@code BodyHandlers.ofString()} did, with parsing it
+ * straight from the byte stream, like {@link ApiRequest} does now, both with its Gson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseParsingBenchmark {
+
+    @Param("5000")
+    public int reports;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < this.reports; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\":\"").append(i)
+                    .append("\",\"reason\":\"Inappropriate tag number ").append(i)
+                    .append("\",\"reportedTag\":\"&cTag &l").append(i)
+                    .append("\",\"by\":\"").append(new UUID(i, i))
+                    .append("\",\"createdAt\":").append(1700000000000L + i)
+                    .append('}');
+        }
+        this.body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PlayerReport[] string() {
+        String body = new String(this.body, StandardCharsets.UTF_8);
+        return ApiRequest.gson.fromJson(body, PlayerReport[].class);
+    }
+
+    @Benchmark
+    public PlayerReport[] stream() throws IOException {
+        try (JsonReader reader = ApiRequest.gson.newJsonReader(new InputStreamReader(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8))) {
+            return ApiRequest.gson.fromJson(reader, PlayerReport[].class);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void streamingAllocatesLessThanBuffering() throws Exception {
+        Collection<RunResult> results = Benchmarks.run(ResponseParsingBenchmark.class);
+        double string = Benchmarks.allocation(results, "string");
+        double stream = Benchmarks.allocation(results, "stream");
+        assertTrue(stream < string, () -> "stream allocated " + stream + " B/op, string " + string + " B/op");
+    }
+}
@@ -0,0 +1,257 @@
+package com.rappytv.globaltags.wrapper.model;
+
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
+import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers a {@link PlayerInfo.Cache} with concurrent puts, gets, renewals and clears. Every player has a version which
+ * only grows. While the threads are running, writers and readers check that they never read an older version than one
+ * they wrote or read before, and afterwards that no update is lost.
+ */
+class PlayerInfoCacheConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int PLAYERS_PER_WRITER = 200;
+    private static final int ROUNDS = 50;
+
+    private StubServer server;
+    private TestAPI api;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = new StubServer();
+        this.api = new TestAPI(this.server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.api.close();
+        this.server.close();
+    }
+
+    @Test
+    void concurrentPutGetRenewClearLosesNoUpdates() throws Exception {
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api, new PlayerInfo.Cache.Options() {
+            @Override
+            public long getMaximumSize() {
+                return -1;
+            }
+
+            @Override
+            public double getRefreshRate() {
+                return -1;
+            }
+
+            @Override
+            public int getRefreshConcurrency() {
+                return 16;
+            }
+        });
+        // The tag is read before the response is delayed, so renewals regularly answer with a tag which a writer
+        // replaced while the response was on its way
+        this.server.setHandler((exchange) -> {
+            UUID uuid = UUID.fromString(exchange.getRequestURI().getPath().substring("/players/".length()));
+            String tag = this.server.getTag(uuid);
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (tag == null) {
+                StubServer.respond(exchange, 404, "{\"error\":\"Player not found\"}");
+            } else {
+                StubServer.respond(exchange, 200, StubServer.playerJson(tag));
+            }
+        });
+        // Creating the http client takes a while, it must not eat up the stress phase
+        this.api.getApiHandler().getInfo(new UUID(-1, -1)).get(10, TimeUnit.SECONDS);
+        List<List<UUID>> players = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            List<UUID> owned = new ArrayList<>();
+            for (int i = 0; i < PLAYERS_PER_WRITER; i++) {
+                owned.add(new UUID(writer, i));
+            }
+            players.add(owned);
+        }
+
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        List<Thread> others = new ArrayList<>();
+
+        for (int writer = 0; writer < WRITERS; writer++) {
+            List<UUID> owned = players.get(writer);
+            writers.add(thread(errors, start, () -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    for (UUID uuid : owned) {
+                        // The previous write may have been cleared since, but never replaced by an older version
+                        assertAtLeast(uuid, cache.get(uuid), round - 1);
+                        String tag = tag(uuid, round);
+                        // Like a real write: the API is updated first, then the cache
+                        this.server.setTag(uuid, tag);
+                        cache.add(uuid, this.info(uuid, tag));
+                        assertAtLeast(uuid, cache.get(uuid), round);
+                    }
+                }
+            }));
+        }
+        for (int reader = 0; reader < 4; reader++) {
+            others.add(thread(errors, start, () -> {
+                // Versions only grow, so a reader must never see a version older than one it saw before
+                Map<UUID, Integer> seen = new HashMap<>();
+                while (running.get()) {
+                    for (List<UUID> owned : players) {
+                        for (UUID uuid : owned) {
+                            PlayerInfo<String> info = cache.get(uuid);
+                            reads.incrementAndGet();
+                            if (info == null) continue;
+                            int version = version(uuid, info);
+                            Integer previous = seen.put(uuid, version);
+                            if (previous != null && version < previous) {
+                                fail("Read version " + version + " of " + uuid + " after version " + previous);
+                            }
+                        }
+                    }
+                }
+            }));
+        }
+        others.add(thread(errors, start, () -> {
+            while (running.get()) {
+                cache.renewAll();
+                Thread.sleep(5);
+            }
+        }));
+        others.add(thread(errors, start, () -> {
+            while (running.get()) {
+                Thread.sleep(20);
+                cache.clear();
+            }
+        }));
+
+        start.countDown();
+        for (Thread thread : writers) {
+            thread.join(TimeUnit.SECONDS.toMillis(60));
+        }
+        running.set(false);
+        for (Thread thread : others) {
+            thread.join(TimeUnit.SECONDS.toMillis(60));
+        }
+        assertTrue(errors.isEmpty(), () -> "Errors during the stress phase: " + errors);
+        awaitQuiet();
+
+        // Every writer writes a final version concurrently, all of them have to be visible afterwards
+        int finalRound = ROUNDS;
+        List<Thread> finalWriters = new ArrayList<>();
+        CountDownLatch finalStart = new CountDownLatch(1);
+        for (List<UUID> owned : players) {
+            finalWriters.add(thread(errors, finalStart, () -> {
+                for (UUID uuid : owned) {
+                    String tag = tag(uuid, finalRound);
+                    this.server.setTag(uuid, tag);
+                    cache.add(uuid, this.info(uuid, tag));
+                }
+            }));
+        }
+        finalStart.countDown();
+        for (Thread thread : finalWriters) {
+            thread.join(TimeUnit.SECONDS.toMillis(60));
+        }
+        assertTrue(errors.isEmpty(), () -> "Errors during the final writes: " + errors);
+
+        assertEquals(WRITERS * PLAYERS_PER_WRITER, cache.size());
+        long hitsBefore = cache.getStats().getHitCount();
+        for (List<UUID> owned : players) {
+            for (UUID uuid : owned) {
+                PlayerInfo<String> info = cache.get(uuid);
+                assertNotNull(info, "Lost update of " + uuid);
+                assertEquals(tag(uuid, finalRound), info.getPlainTag());
+            }
+        }
+        assertEquals(hitsBefore + (long) WRITERS * PLAYERS_PER_WRITER, cache.getStats().getHitCount());
+        assertTrue(reads.get() > 0);
+    }
+
+    /**
+     * Waits until no request has been sent to the stub server for a while, so late renewals can't overwrite the final
+     * writes
+     */
+    private void awaitQuiet() throws InterruptedException {
+        int previous;
+        do {
+            previous = this.server.getRequestCount();
+            Thread.sleep(300);
+        } while (previous != this.server.getRequestCount());
+    }
+
+    private PlayerInfo<String> info(UUID uuid, String tag) {
+        return new PlayerInfo<>(
+                this.api,
+                uuid,
+                tag,
+                GlobalPosition.ABOVE,
+                new PlayerInfo.Icon(GlobalIcon.NONE, null),
+                null,
+                null,
+                false,
+                List.of(),
+                List.of(),
+                null
+        );
+    }
+
+    private static String tag(UUID uuid, int round) {
+        return uuid + ":" + round;
+    }
+
+    private static void assertAtLeast(UUID uuid, PlayerInfo<String> info, int written) {
+        if (info == null) return;
+        int version = version(uuid, info);
+        assertTrue(version >= written, () -> "Read version " + version + " of " + uuid + " after writing version " + written);
+    }
+
+    private static int version(UUID uuid, PlayerInfo<String> info) {
+        assertEquals(uuid, info.getUUID());
+        assertTrue(info.getPlainTag().startsWith(uuid + ":"), info.getPlainTag());
+        return Integer.parseInt(info.getPlainTag().substring(uuid.toString().length() + 1));
+    }
+
+    private static Thread thread(Queue<Throwable> errors, CountDownLatch start, ThrowingRunnable task) {
+        Thread thread = new Thread(() -> {
+            try {
+                start.await();
+                task.run();
+            } catch (Throwable t) {
+                errors.add(t);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
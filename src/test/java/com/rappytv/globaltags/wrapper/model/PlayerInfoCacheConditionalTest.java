@@ -0,0 +1,119 @@
+package com.rappytv.globaltags.wrapper.model;
+
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that players are refreshed with conditional requests and a 304 keeps the cached info
+ */
+class PlayerInfoCacheConditionalTest {
+
+    private StubServer server;
+    private TestAPI api;
+    private final List<String> validators = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = new StubServer();
+        this.api = new TestAPI(this.server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.api.close();
+        this.server.close();
+    }
+
+    @Test
+    void notModifiedKeepsCachedInfo() throws Exception {
+        UUID uuid = new UUID(0, 1);
+        this.serve(null, null);
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api);
+        CompletableFuture<PlayerInfo<String>> first = new CompletableFuture<>();
+        cache.resolve(uuid, first::complete);
+        PlayerInfo<String> info = first.get(10, TimeUnit.SECONDS);
+        assertNotNull(info);
+        String tag = info.getTag();
+
+        CompletableFuture<PlayerInfo<String>> renewed = new CompletableFuture<>();
+        cache.renew(uuid, renewed::complete);
+        // Neither parsed nor translated again
+        assertSame(info, renewed.get(10, TimeUnit.SECONDS));
+        assertSame(info, cache.get(uuid));
+        assertSame(tag, cache.get(uuid).getTag());
+
+        assertEquals(List.of("\"v1\""), this.validators);
+        PlayerInfo.Cache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getConditionalFetchCount());
+        assertEquals(1, stats.getNotModifiedCount());
+        assertTrue(stats.getBytesSaved() > 0);
+        assertEquals(2, this.server.getRequestCount());
+    }
+
+    @Test
+    void notModifiedWithoutCachedInfoIsFetchedAgain() throws Exception {
+        UUID uuid = new UUID(0, 2);
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        this.serve(received, release);
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api);
+        CompletableFuture<PlayerInfo<String>> first = new CompletableFuture<>();
+        cache.resolve(uuid, first::complete);
+        assertNotNull(first.get(10, TimeUnit.SECONDS));
+
+        CompletableFuture<PlayerInfo<String>> renewed = new CompletableFuture<>();
+        cache.renew(uuid, renewed::complete);
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        // The 304 arrives after the entry it refers to was removed
+        cache.clear();
+        release.countDown();
+
+        PlayerInfo<String> info = renewed.get(10, TimeUnit.SECONDS);
+        assertNotNull(info);
+        assertEquals("tag", info.getPlainTag());
+        assertSame(info, cache.get(uuid));
+        assertEquals(3, this.server.getRequestCount());
+        // Only the renewal was conditional, the refetch after it isn't
+        assertEquals(List.of("\"v1\""), this.validators);
+        PlayerInfo.Cache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getConditionalFetchCount());
+        assertEquals(0, stats.getNotModifiedCount());
+    }
+
+    /**
+     * Answers unconditional requests with the player and an ETag, and conditional ones with 304
+     *
+     * @param received Counted down when a conditional request arrives, or null
+     * @param release  Awaited before a conditional request is answered, or null
+     */
+    private void serve(CountDownLatch received, CountDownLatch release) {
+        this.server.setHandler((exchange) -> {
+            String validator = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (validator == null) {
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                StubServer.respond(exchange, 200, StubServer.playerJson("tag"));
+                return;
+            }
+            this.validators.add(validator);
+            if (received != null) received.countDown();
+            try {
+                if (release != null) release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubServer.respond(exchange, 304, null);
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.rappytv.globaltags.wrapper.model;
+
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that renewing a player is never answered with a response which was requested before the player changed
+ */
+class PlayerInfoCacheRenewTest {
+
+    private StubServer server;
+    private TestAPI api;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = new StubServer();
+        this.api = new TestAPI(this.server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.api.close();
+        this.server.close();
+    }
+
+    @Test
+    void renewDoesNotJoinOutdatedFetch() throws Exception {
+        UUID uuid = new UUID(0, 1);
+        this.server.setTag(uuid, "old");
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger requests = new AtomicInteger();
+        this.server.setHandler((exchange) -> {
+            if (requests.getAndIncrement() > 0) {
+                StubServer.respond(exchange, 200, StubServer.playerJson("new"));
+                return;
+            }
+            // The first request reads the player before it changes, but answers after the renewal
+            received.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubServer.respond(exchange, 200, StubServer.playerJson("old"));
+        });
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api);
+
+        CompletableFuture<PlayerInfo<String>> outdated = new CompletableFuture<>();
+        cache.resolve(uuid, outdated::complete);
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+
+        this.server.setTag(uuid, "new");
+        CompletableFuture<PlayerInfo<String>> renewed = new CompletableFuture<>();
+        cache.renew(uuid, renewed::complete);
+        assertEquals("new", renewed.get(10, TimeUnit.SECONDS).getPlainTag());
+
+        release.countDown();
+        outdated.get(10, TimeUnit.SECONDS);
+        assertEquals(2, requests.get());
+        assertEquals("new", cache.get(uuid).getPlainTag());
+    }
+}
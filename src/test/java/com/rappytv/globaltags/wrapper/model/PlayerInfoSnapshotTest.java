@@ -0,0 +1,196 @@
+package com.rappytv.globaltags.wrapper.model;
+
+import com.rappytv.globaltags.wrapper.GlobalTagsAPI;
+import com.rappytv.globaltags.wrapper.StubServer;
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalIcon;
+import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerInfoSnapshotTest {
+
+    @TempDir
+    Path dir;
+    private StubServer server;
+    private TestAPI api;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.server = new StubServer();
+        this.api = new TestAPI(this.server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.api.close();
+        this.server.close();
+    }
+
+    @Test
+    void playerWithoutIconIsRestored() throws Exception {
+        Path file = this.dir.resolve("players.bin");
+        UUID uuid = new UUID(0, 1);
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api, this.options(file));
+        cache.add(uuid, new PlayerInfo<>(
+                this.api,
+                uuid,
+                "&aTag",
+                GlobalPosition.BELOW,
+                new PlayerInfo.Icon(null, null),
+                null,
+                null,
+                false,
+                List.of("admin"),
+                List.of(),
+                null
+        ));
+        cache.saveSnapshot(file);
+
+        PlayerInfo.Cache<String> restored = new PlayerInfo.Cache<>(this.api, this.options(file));
+        await(() -> restored.size() == 1);
+        PlayerInfo<String> info = restored.get(uuid);
+        assertNotNull(info);
+        assertEquals("&aTag", info.getPlainTag());
+        assertEquals(GlobalPosition.BELOW, info.getPosition());
+        assertNull(info.getGlobalIcon());
+        assertEquals(List.of("admin"), info.getRoles());
+        assertEquals(0, restored.getStats().getSnapshotFailureCount());
+    }
+
+    @Test
+    void brokenSnapshotIsCounted() throws Exception {
+        Path file = this.dir.resolve("players.bin");
+        Files.write(file, new byte[]{1, 2, 3});
+
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api, this.options(file));
+        await(() -> cache.getStats().getSnapshotFailureCount() == 1);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void removedIconDoesNotDiscardSnapshot() throws Exception {
+        Path file = this.dir.resolve("players.bin");
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api, this.options(file));
+        cache.add(first, this.player(first, GlobalIcon.CUSTOM));
+        cache.add(second, this.player(second, GlobalIcon.NONE));
+        cache.saveSnapshot(file);
+        // Pretend the icon of the first player was removed from the enum since the snapshot was written
+        byte[] bytes = Files.readAllBytes(file);
+        byte[] name = GlobalIcon.CUSTOM.name().getBytes(StandardCharsets.UTF_8);
+        int index = indexOf(bytes, name);
+        assertTrue(index >= 0);
+        Arrays.fill(bytes, index, index + name.length, (byte) 'Z');
+        Files.write(file, bytes);
+
+        PlayerInfo.Cache<String> restored = new PlayerInfo.Cache<>(this.api, this.options(file));
+        await(() -> restored.size() == 2);
+        assertEquals(GlobalIcon.NONE, restored.get(first).getGlobalIcon());
+        assertEquals(GlobalIcon.NONE, restored.get(second).getGlobalIcon());
+        assertEquals(0, restored.getStats().getSnapshotFailureCount());
+    }
+
+    @Test
+    void snapshotIsLoadedOnWorkerExecutor() throws Exception {
+        Path file = this.dir.resolve("players.bin");
+        UUID uuid = new UUID(0, 1);
+        PlayerInfo.Cache<String> cache = new PlayerInfo.Cache<>(this.api, this.options(file));
+        cache.add(uuid, this.player(uuid, GlobalIcon.NONE));
+        cache.saveSnapshot(file);
+
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        AtomicInteger tasks = new AtomicInteger();
+        TestAPI api = new TestAPI(this.server) {
+            private final HttpOptions options = new HttpOptions() {
+                @Override
+                public Executor getWorkerExecutor() {
+                    return (task) -> {
+                        tasks.incrementAndGet();
+                        worker.execute(task);
+                    };
+                }
+            };
+
+            @Override
+            public @NotNull GlobalTagsAPI.HttpOptions getHttpOptions() {
+                return this.options;
+            }
+        };
+        try {
+            PlayerInfo.Cache<String> restored = new PlayerInfo.Cache<>(api, this.options(file));
+            await(() -> restored.size() == 1);
+            assertEquals(1, tasks.get());
+        } finally {
+            api.close();
+            worker.shutdownNow();
+        }
+    }
+
+    private PlayerInfo<String> player(UUID uuid, GlobalIcon icon) {
+        return new PlayerInfo<>(
+                this.api,
+                uuid,
+                "&aTag",
+                GlobalPosition.ABOVE,
+                new PlayerInfo.Icon(icon, null),
+                null,
+                null,
+                false,
+                List.of(),
+                List.of(),
+                null
+        );
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        outer:
+        for (int i = 0; i <= bytes.length - part.length; i++) {
+            for (int j = 0; j < part.length; j++) {
+                if (bytes[i + j] != part[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private PlayerInfo.Cache.Options options(Path file) {
+        return new PlayerInfo.Cache.Options() {
+            @Override
+            public long getRefreshAfterWrite() {
+                return -1;
+            }
+
+            @Override
+            public Path getSnapshotFile() {
+                return file;
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.rappytv.globaltags.wrapper.model;
+
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerInfoTagTest {
+
+    private TestAPI api;
+
+    @BeforeEach
+    void setUp() {
+        this.api = new TestAPI("http://localhost");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.api.close();
+    }
+
+    @Test
+    void concurrentCallsReturnTheSameTranslation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 100; round++) {
+                PlayerInfo<String> info = this.player();
+                CountDownLatch start = new CountDownLatch(1);
+                Set<String> tags = ConcurrentHashMap.newKeySet();
+                Set<Integer> identities = ConcurrentHashMap.newKeySet();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        String tag = info.getTag();
+                        tags.add(tag);
+                        identities.add(System.identityHashCode(tag));
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+                assertEquals(Set.of("translated:&aTag"), tags);
+                assertEquals(1, identities.size());
+                assertSame(info.getTag(), info.getTag());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lockingThePlayerDoesNotBlockTheTag() throws Exception {
+        PlayerInfo<String> info = this.player();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            synchronized (info) {
+                assertEquals("translated:&aTag", executor.submit(info::getTag).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PlayerInfo<String> player() {
+        return new PlayerInfo<>(
+                this.api,
+                new UUID(0, 1),
+                "&aTag",
+                GlobalPosition.ABOVE,
+                new PlayerInfo.Icon(null, null),
+                null,
+                null,
+                false,
+                List.of(),
+                List.of(),
+                null
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final List<String> transitions = new CopyOnWriteArrayList<>();
+
+    @Test
+    void opensAfterThreshold() {
+        CircuitBreaker breaker = this.breaker(3, 60000);
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        // A success in between resets the consecutive failures
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertTrue(breaker.tryAcquire());
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCount());
+        assertEquals(List.of("CLOSED->OPEN"), this.transitions);
+    }
+
+    @Test
+    void neverOpensWithoutThreshold() {
+        CircuitBreaker breaker = this.breaker(-1, 60000);
+        for (int i = 0; i < 100; i++) {
+            breaker.recordFailure();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(this.transitions.isEmpty());
+    }
+
+    @Test
+    void successfulProbeCloses() throws InterruptedException {
+        CircuitBreaker breaker = this.breaker(1, 50);
+        breaker.recordFailure();
+        assertFalse(breaker.tryAcquire());
+        Thread.sleep(100);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        // Only a single probe is let through
+        assertFalse(breaker.tryAcquire());
+        breaker.recordSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), this.transitions);
+    }
+
+    @Test
+    void failedProbeOpensAgain() throws InterruptedException {
+        CircuitBreaker breaker = this.breaker(1, 50);
+        breaker.recordFailure();
+        Thread.sleep(100);
+        assertTrue(breaker.tryAcquire());
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), this.transitions);
+    }
+
+    @Test
+    void probeWhichNeverReportsBackTimesOut() throws InterruptedException {
+        CircuitBreaker breaker = this.breaker(1, 50);
+        breaker.recordFailure();
+        Thread.sleep(100);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // The probe is lost, after another open duration the next call becomes the probe
+        Thread.sleep(100);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), this.transitions);
+    }
+
+    @Test
+    void failingListenerDoesNotBreakTransitions() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 60000, (b, from, to) -> {
+            throw new IllegalStateException("listener failed");
+        });
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private CircuitBreaker breaker(int threshold, long openDuration) {
+        return new CircuitBreaker("test", threshold, openDuration, (breaker, from, to) -> this.transitions.add(from + "->" + to));
+    }
+}
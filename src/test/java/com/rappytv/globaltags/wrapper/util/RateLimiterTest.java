@@ -0,0 +1,47 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void delayedPermitFailsAfterShutdown() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        RateLimiter limiter = new RateLimiter(scheduler, 1, 1);
+        // Permits are reserved in advance, so only the third permit has to wait
+        assertTrue(limiter.acquire().isDone());
+        assertTrue(limiter.acquire().isDone());
+        scheduler.shutdownNow();
+
+        CompletableFuture<Void> permit = limiter.acquire();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> permit.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+    }
+
+    @Test
+    void unlimitedLimiterOnlyWaitsAfterPause() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            RateLimiter limiter = new RateLimiter(scheduler, Double.POSITIVE_INFINITY, 1);
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(limiter.acquire().isDone());
+            }
+            assertEquals(0, limiter.getDelayedCount());
+
+            limiter.pause(TimeUnit.SECONDS.toNanos(30));
+            assertFalse(limiter.acquire().isDone());
+            assertEquals(1, limiter.getDelayedCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
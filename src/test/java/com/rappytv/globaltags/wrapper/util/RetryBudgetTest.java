@@ -0,0 +1,36 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    void retriesStopOnceBudgetIsSpent() {
+        RetryBudget budget = new RetryBudget(2, 60000);
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(2, budget.getRetryCount());
+        assertEquals(2, budget.getExhaustedCount());
+    }
+
+    @Test
+    void budgetIsRefilledAfterWindow() throws InterruptedException {
+        RetryBudget budget = new RetryBudget(1, 50);
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        Thread.sleep(100);
+        assertTrue(budget.tryAcquire());
+        assertEquals(2, budget.getRetryCount());
+    }
+
+    @Test
+    void emptyBudgetNeverRetries() {
+        RetryBudget budget = new RetryBudget(0, 60000);
+        assertFalse(budget.tryAcquire());
+        assertEquals(0, budget.getRetryCount());
+    }
+}
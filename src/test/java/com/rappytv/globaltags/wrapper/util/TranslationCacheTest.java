@@ -0,0 +1,57 @@
+package com.rappytv.globaltags.wrapper.util;
+
+import com.rappytv.globaltags.wrapper.TestAPI;
+import com.rappytv.globaltags.wrapper.enums.GlobalPosition;
+import com.rappytv.globaltags.wrapper.model.PlayerInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationCacheTest {
+
+    @Test
+    void tagsAreNotSharedByDefault() {
+        TestAPI api = new TestAPI("http://localhost");
+        try {
+            assertNotSame(player(api, 1).getTag(), player(api, 2).getTag());
+            assertEquals(0, api.getTranslationCache().getHitCount());
+        } finally {
+            api.close();
+        }
+    }
+
+    @Test
+    void tagsAreSharedWhenEnabled() {
+        TestAPI api = new TestAPI("http://localhost") {
+            @Override
+            public int getTranslationCacheSize() {
+                return 10;
+            }
+        };
+        try {
+            assertSame(player(api, 1).getTag(), player(api, 2).getTag());
+            assertEquals(1, api.getTranslationCache().getHitCount());
+        } finally {
+            api.close();
+        }
+    }
+
+    private static PlayerInfo<String> player(TestAPI api, long id) {
+        return new PlayerInfo<>(
+                api,
+                new UUID(0, id),
+                "&aTag",
+                GlobalPosition.ABOVE,
+                new PlayerInfo.Icon(null, null),
+                null,
+                null,
+                false,
+                List.of(),
+                List.of(),
+                null
+        );
+    }
+}